@@ -0,0 +1,103 @@
+package chart;
+
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.jfree.ui.RefineryUtilities;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The charts of a run, kept until every measurement is done so that drawing them never competes with a measured run.
+ * They are then either shown in windows or, on a headless host, saved as PNG files.
+ */
+public class ChartBatch {
+
+    private final List<String> frameTitles = new ArrayList<>();
+    private final List<String> fileNames = new ArrayList<>();
+    private final List<JFreeChart> charts = new ArrayList<>();
+
+    /**
+     * Adds a chart to the batch.
+     *
+     * @param frameTitle the title of the window, also used to name the file.
+     * @param chartTitle the title of the chart.
+     * @param xAxisList the {@link List} of data points for the X axis.
+     * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     * @param <T> the type of the data points.
+     */
+    public synchronized <T extends Number> void add(String frameTitle,
+                                                    String chartTitle,
+                                                    List<? extends Number> xAxisList,
+                                                    Map<String, List<T>> data,
+                                                    String xAxisLabel,
+                                                    String yAxisLabel) {
+        frameTitles.add(frameTitle);
+        fileNames.add(toFileName(frameTitle + " " + chartTitle));
+        charts.add(LineChart.createLineChart(chartTitle, xAxisList, data, xAxisLabel, yAxisLabel));
+    }
+
+    /**
+     * Adds a chart to the batch, where every series has its own data points for the X axis.
+     *
+     * @param frameTitle the title of the window, also used to name the file.
+     * @param chartTitle the title of the chart.
+     * @param xAxisData the {@link Map} of sorting type to the corresponding data points for the X axis.
+     * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     * @param <T> the type of the data points.
+     */
+    public synchronized <T extends Number> void add(String frameTitle,
+                                                    String chartTitle,
+                                                    Map<String, ? extends List<? extends Number>> xAxisData,
+                                                    Map<String, List<T>> data,
+                                                    String xAxisLabel,
+                                                    String yAxisLabel) {
+        frameTitles.add(frameTitle);
+        fileNames.add(toFileName(frameTitle + " " + chartTitle));
+        charts.add(LineChart.createLineChart(chartTitle, xAxisData, data, xAxisLabel, yAxisLabel));
+    }
+
+    /**
+     * Shows every chart of the batch in its own window.
+     */
+    public synchronized void show() {
+        for (int i = 0; i < charts.size(); i++) {
+            LineChart<Number> lineChart = new LineChart<>(frameTitles.get(i));
+            lineChart.setChart(charts.get(i));
+            lineChart.pack();
+            RefineryUtilities.centerFrameOnScreen(lineChart);
+            lineChart.setVisible(true);
+        }
+    }
+
+    /**
+     * Saves every chart of the batch as a PNG file of the given directory, named after its position in the batch
+     * and its titles.
+     *
+     * @param directory the directory of the files, created if missing.
+     *
+     * @return the {@link List} of the files written.
+     * @throws IOException An exception is thrown where is there is a problem with writing the files.
+     */
+    public synchronized List<Path> saveAsPng(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < charts.size(); i++) {
+            Path file = directory.resolve(String.format("%02d-%s.png", i + 1, fileNames.get(i)));
+            ChartUtilities.saveChartAsPNG(file.toFile(), charts.get(i), LineChart.WIDTH, LineChart.HEIGHT);
+            files.add(file);
+        }
+        return files;
+    }
+
+    private static String toFileName(String title) {
+        String fileName = title.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+        return fileName.replaceAll("^-|-$", "");
+    }
+}
@@ -5,20 +5,28 @@ import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartPanel;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.plot.PlotOrientation;
-import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.ui.ApplicationFrame;
-import org.jfree.ui.RefineryUtilities;
 
 import java.util.*;
 
 /**
- * A generic class that takes any type of data to generate charts after passing the data points.
- * @param <T>
+ * A generic class that takes any type of numeric data to generate charts after passing the data points.
+ * @param <T> the type of the data points.
  */
-public class LineChart<T> extends ApplicationFrame {
+public class LineChart<T extends Number> extends ApplicationFrame {
+
+    /**
+     * The width of a chart, in pixels.
+     */
+    public static final int WIDTH = 560;
+
+    /**
+     * The height of a chart, in pixels.
+     */
+    public static final int HEIGHT = 367;
 
     /**
      * Constructs a new application frame.
@@ -32,65 +40,128 @@ public class LineChart<T> extends ApplicationFrame {
     /**
      * Creates a chart using JFreeChart Library.
      * @param chartTitle the title of the chart.
-     * @param xAxisList the {@link List} of {@link T} data points for the X axis.
+     * @param xAxisList the {@link List} of data points for the X axis.
+     * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     */
+    public void createChart(final String chartTitle,
+                            final List<? extends Number> xAxisList,
+                            final Map<String, List<T>> data,
+                            final String xAxisLabel,
+                            final String yAxisLabel) {
+        setChart(createLineChart(chartTitle, xAxisList, data, xAxisLabel, yAxisLabel));
+    }
+
+    /**
+     * Creates a chart using JFreeChart Library, where every series has its own data points for the X axis.
+     * @param chartTitle the title of the chart.
+     * @param xAxisData the {@link Map} of sorting type to the corresponding data points for the X axis.
      * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
      * @param xAxisLabel the label for the X Axis.
      * @param yAxisLabel the label for the Y Axis.
      */
     public void createChart(final String chartTitle,
-                            final List<T> xAxisList,
+                            final Map<String, ? extends List<? extends Number>> xAxisData,
                             final Map<String, List<T>> data,
                             final String xAxisLabel,
                             final String yAxisLabel) {
-        JFreeChart lineChart
-                = ChartFactory.createXYLineChart(chartTitle,
+        setChart(createLineChart(chartTitle, xAxisData, data, xAxisLabel, yAxisLabel));
+    }
+
+    /**
+     * Sets an already created chart as the content of the frame.
+     * @param lineChart the {@link JFreeChart} to show.
+     */
+    public void setChart(final JFreeChart lineChart) {
+        ChartPanel chartPanel = new ChartPanel( lineChart );
+        chartPanel.setPreferredSize( new java.awt.Dimension( WIDTH , HEIGHT ) );
+        setContentPane(chartPanel);
+    }
+
+    /**
+     * Creates a chart using JFreeChart Library without any frame, so that it can also be created on a headless host.
+     * @param chartTitle the title of the chart.
+     * @param xAxisList the {@link List} of data points for the X axis.
+     * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     * @param <N> the type of the data points.
+     *
+     * @return the {@link JFreeChart}.
+     */
+    public static <N extends Number> JFreeChart createLineChart(final String chartTitle,
+                                                               final List<? extends Number> xAxisList,
+                                                               final Map<String, List<N>> data,
+                                                               final String xAxisLabel,
+                                                               final String yAxisLabel) {
+        final XYSeriesCollection dataset = new XYSeriesCollection();
+        data.forEach((sortingTechnique, series) -> dataset.addSeries(createSeries(sortingTechnique, xAxisList, series)));
+        return createLineChart(chartTitle, dataset, xAxisLabel, yAxisLabel);
+    }
+
+    /**
+     * Creates a chart using JFreeChart Library without any frame, where every series has its own data points for the
+     * X axis.
+     * @param chartTitle the title of the chart.
+     * @param xAxisData the {@link Map} of sorting type to the corresponding data points for the X axis.
+     * @param data the {@link Map} of sorting type to the corresponding data points to plot in the graph.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     * @param <N> the type of the data points.
+     *
+     * @return the {@link JFreeChart}.
+     */
+    public static <N extends Number> JFreeChart createLineChart(final String chartTitle,
+                                                               final Map<String, ? extends List<? extends Number>> xAxisData,
+                                                               final Map<String, List<N>> data,
+                                                               final String xAxisLabel,
+                                                               final String yAxisLabel) {
+        final XYSeriesCollection dataset = new XYSeriesCollection();
+        data.forEach((sortingTechnique, series) -> dataset.addSeries(
+                createSeries(sortingTechnique, xAxisData.get(sortingTechnique), series)));
+        return createLineChart(chartTitle, dataset, xAxisLabel, yAxisLabel);
+    }
+
+    /**
+     * Creates the chart of the given {@link XYDataset}.
+     * @param chartTitle the title of the chart.
+     * @param dataset the {@link XYDataset} to plot.
+     * @param xAxisLabel the label for the X Axis.
+     * @param yAxisLabel the label for the Y Axis.
+     *
+     * @return the {@link JFreeChart}.
+     */
+    private static JFreeChart createLineChart(final String chartTitle,
+                                              final XYDataset dataset,
+                                              final String xAxisLabel,
+                                              final String yAxisLabel) {
+        return ChartFactory.createXYLineChart(chartTitle,
                                                xAxisLabel,
                                                yAxisLabel,
-                                               createDataset(xAxisList, data),
+                                               dataset,
                                                PlotOrientation.VERTICAL,
                                        true,
                                       true,
                                          false);
-        ChartPanel chartPanel = new ChartPanel( lineChart );
-        chartPanel.setPreferredSize( new java.awt.Dimension( 560 , 367 ) );
-        setContentPane(chartPanel);
     }
 
     /**
-     * Creates a {@link XYDataset} required to generate the XY chart.
+     * Creates the {@link XYSeries} of one sorting technique, sorted by the X axis.
+     * @param sortingTechnique the name of the series.
      * @param xAxisList the list of data point for x axis.
-     * @param dataList the actual data points to plot in the graph.
+     * @param data the data points to plot for the series.
      *
-     * @return the {@link XYDataset} required to generate the XY chart.
+     * @return the {@link XYSeries}.
      */
-    private XYDataset createDataset(final List<T> xAxisList,
-                                    final Map<String, List<T>> dataList) {
-        final XYSeriesCollection dataset = new XYSeriesCollection();
-        dataList.forEach((sortingTechnique, data) -> {
-            XYSeries xySeries = new XYSeries(sortingTechnique);
-            Validate.isTrue(xAxisList.size() == data.size());
-            for (int i = 0; i < data.size(); i++) {
-                T currentData = data.get(i);
-                if (currentData instanceof Integer) {
-                    Integer currentInteger = (Integer) data.get(i);
-                    Integer xAxisData = (Integer) xAxisList.get(i);
-                    xySeries.add(xAxisData, currentInteger);
-                } else if (currentData instanceof Double) {
-                    Double currentDouble = (Double) data.get(i);
-                    Double xAxisData = (Double) xAxisList.get(i);
-                    xySeries.add(currentDouble, xAxisData);
-                } else if (currentData instanceof Long) {
-                    Long currentDouble = (Long) data.get(i);
-                    Long xAxisData = (Long) xAxisList.get(i);
-                    xySeries.add(currentDouble, xAxisData);
-                } else if (currentData instanceof Float) {
-                    Float currentDouble = (Float) data.get(i);
-                    Float xAxisData = (Float) xAxisList.get(i);
-                    xySeries.add(currentDouble, xAxisData);
-                }
-            }
-            dataset.addSeries(xySeries);
-        });
-        return dataset;
+    private static XYSeries createSeries(final String sortingTechnique,
+                                         final List<? extends Number> xAxisList,
+                                         final List<? extends Number> data) {
+        XYSeries xySeries = new XYSeries(sortingTechnique);
+        Validate.isTrue(xAxisList.size() == data.size());
+        for (int i = 0; i < data.size(); i++) {
+            xySeries.add(xAxisList.get(i), data.get(i));
+        }
+        return xySeries;
     }
 }
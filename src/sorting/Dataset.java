@@ -0,0 +1,73 @@
+package sorting;
+
+/**
+ * The datasets every sorting technique is simulated on. Each constant wraps one of the input generators
+ * of {@link Evaluation} so that the simulation and the benchmarks draw their inputs from the same place.
+ */
+public enum Dataset {
+
+    /**
+     * Dataset 1 - uniformly distributed random integers.
+     */
+    UNIFORM("Uniform Distribution") {
+        @Override
+        public int[] getData(int sizeOfInput) {
+            return Evaluation.getUniformDistribution(sizeOfInput);
+        }
+    },
+
+    /**
+     * Dataset 2 - credit limits from the real-time credit card data.
+     */
+    CREDIT_CARD("Real-time Credit Card Data") {
+        @Override
+        public int[] getData(int sizeOfInput) throws Exception {
+            return Evaluation.getDataFromArray(Evaluation.getDataFromCreditCardData(), sizeOfInput);
+        }
+    },
+
+    /**
+     * Dataset 3 - discrete probability distribution over a handful of values.
+     */
+    DISCRETE("Discrete Probability Distribution") {
+        @Override
+        public int[] getData(int sizeOfInput) {
+            return Evaluation.getDiscreteDistribution(sizeOfInput);
+        }
+    },
+
+    /**
+     * Dataset 4 - units sold from the real-time sales records data.
+     */
+    SALES_RECORDS("Real-time Sales Records Data") {
+        @Override
+        public int[] getData(int sizeOfInput) throws Exception {
+            return Evaluation.getDataFromArray(Evaluation.getDataFromSalesRecordsData(), sizeOfInput);
+        }
+    };
+
+    private final String description;
+
+    Dataset(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Gets the human readable description of the dataset, used in chart titles.
+     *
+     * @return the description of the dataset.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets {@code sizeOfInput} data points from this dataset.
+     *
+     * @param sizeOfInput the input size required.
+     *
+     * @return the integer array with the data points.
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    public abstract int[] getData(int sizeOfInput) throws Exception;
+}
@@ -1,747 +1,535 @@
 package sorting;
 
-import chart.LineChart;
+import chart.ChartBatch;
 import org.apache.commons.math3.distribution.EnumeratedIntegerDistribution;
-import org.jfree.ui.RefineryUtilities;
-import org.supercsv.cellprocessor.*;
-import org.supercsv.cellprocessor.constraint.NotNull;
-import org.supercsv.cellprocessor.ift.CellProcessor;
-import org.supercsv.io.CsvListReader;
-import org.supercsv.io.ICsvListReader;
-import org.supercsv.prefs.CsvPreference;
+import sorting.experiment.ExperimentCell;
+import sorting.experiment.ExperimentMatrix;
+import sorting.experiment.ExperimentScheduler;
+import sorting.experiment.Metric;
+import sorting.experiment.SeriesCollector;
+import sorting.experiment.XAxis;
+import sorting.external.ExternalMergeSort;
+import sorting.history.HistoryStore;
+import sorting.history.RunEnvironment;
+import sorting.io.ColumnCache;
+import sorting.measurement.AllocationProfiler;
+import sorting.measurement.AllocationResult;
+import sorting.measurement.InputPool;
+import sorting.measurement.OperationCounter;
+import sorting.measurement.TimingEngine;
+import sorting.measurement.TimingResult;
+import sorting.offheap.MappedIntArray;
+import sorting.offheap.MappedIntSort;
+import sorting.offheap.MappedQuickSort;
+import sorting.report.CsvResultWriter;
+import sorting.report.JsonResultWriter;
+import sorting.report.Measurement;
+import sorting.report.ResultWriter;
+import sorting.table.ColumnType;
+import sorting.table.IntColumn;
+import sorting.table.StringColumn;
+import sorting.table.Table;
 import sorting.types.*;
 
-import java.io.FileReader;
-import java.time.Duration;
-import java.time.Instant;
+import java.awt.GraphicsEnvironment;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class simulates all the sorting algorithms by running all the sorting techniques on different datasets
  * for multiple iterations, for every combination of parameters, recording the run time, memory usage for each iteration
- * and taking the average runtime or memory usage, pass the results to the graph library to finally generate the graphs.
+ * and taking the median runtime or the average allocated memory, pass the results to the graph library to finally generate the graphs.
  */
 public class Evaluation {
 
     /**
-     * The main method where the program starts executing. This method calls all the
-     * simulation methods for every dataset.
-     *
-     * @param args stores all the command line arguments.
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     * The engine used to measure the run time of every sorting technique.
      */
-    public static void main(String[] args) throws Exception {
-
-        Evaluation.generateGraphDataset1DataSizeVsRunTime();
-        Evaluation.generateGraphDataset2DataSizeVsRunTime();
-        Evaluation.generateGraphDataset3DataSizeVsRunTime();
-        Evaluation.generateGraphDataset4DataSizeVsRunTime();
-
-        Evaluation.generateGraphDataSet1DataSizeVsMemoryUsage();
-        Evaluation.generateGraphDataSet2DataSizeVsMemoryUsage();
-        Evaluation.generateGraphDataSet3DataSizeVsMemoryUsage();
-        Evaluation.generateGraphDataSet4DataSizeVsMemoryUsage();
-
-        Evaluation.generateGraphDataSet1DegreeOfSortednessVsRunTime();
-        Evaluation.generateGraphDataSet2DegreeOfSortednessVsRunTime();
-        Evaluation.generateGraphDataSet3DegreeOfSortednessVsRunTime();
-        Evaluation.generateGraphDataSet4DegreeOfSortednessVsRunTime();
-
-
-        Evaluation.generateGraphDataSet1DegreeOfSortednessVsMemoryUsage();
-        Evaluation.generateGraphDataSet2DataSortednessVsMemoryUsage();
-        Evaluation.generateGraphDataSet3DegreeOfSortednessednessVsMemoryUsage();
-        Evaluation.generateGraphDataSet4DataSortednessVsMemoryUsage();
-
-    }
+    private static final TimingEngine TIMING_ENGINE = new TimingEngine();
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based on data size
-     * and run time parametrs on the dataset 1.
+     * The engine used to measure the external sort, whose every run writes and reads hundreds of megabytes of files.
+     * The unmeasured run printing the statistics of a cell is its warmup, and every sample is kept as there are too
+     * few of them to reject outliers.
      */
-    public static void generateGraphDataset1DataSizeVsRunTime() {
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getUniformDistribution(sizeOfInput);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Uniform Distribution)");
-        lineChart.createChart("Data Size Vs Run Time DataSet 1", xAxisList, map, "Data Size", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    private static final TimingEngine EXTERNAL_SORT_TIMING_ENGINE = new TimingEngine(0, 3, 0);
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and run time parameters on the dataset 2.
-     *
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     * The counter of the operations of every sorting technique, only usable when the sorts count them.
      */
-    public static void generateGraphDataset2DataSizeVsRunTime() throws Exception {
-
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> dataFromFile = Evaluation.getDataFromCreditCardData();
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Real-time Credit Card Data)");
-        lineChart.createChart("Data Size Vs Run Time - Dataset 2", xAxisList, map, "Data Size", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    private static final OperationCounter OPERATION_COUNTER = new OperationCounter();
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and run time parameters on the dataset 3.
+     * The cache of the columns read from the real-time data files.
      */
-    public static void generateGraphDataset3DataSizeVsRunTime() {
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDiscreteDistribution(sizeOfInput);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Discrete Probability Distribution)");
-        lineChart.createChart("Data Size Vs Run Time DataSet 3", xAxisList, map, "Data Size", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    private static final ColumnCache COLUMN_CACHE = new ColumnCache(Paths.get("creditCard", "cache"));
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and run time parameters on the dataset 4.
-     *
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     * The scheduler running the cells of every experiment.
      */
-    public static void generateGraphDataset4DataSizeVsRunTime() throws Exception {
-
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> dataFromFile = Evaluation.getDataFromSalesRecordsData();
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Real-time Data Sorting");
-        lineChart.createChart("Data Size Vs Run Time - Dataset 4", xAxisList, map, "Data Size", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    private static final ExperimentScheduler EXPERIMENT_SCHEDULER = new ExperimentScheduler();
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and memory usage parameters on the dataset 1.
+     * The directory of the experiment matrices run when no configuration file is given on the command line.
      */
-    public static void generateGraphDataSet1DataSizeVsMemoryUsage(){
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-//        Collections.addAll(xAxisList, 10, 50, 100, 500, 1000, 2000, 3000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getUniformDistribution(sizeOfInput);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Uniform Distribution)");
-        lineChart.createChart("Memory Usage vs Data Size DataSet 1", xAxisList, map, "Data Size", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    private static final Path EXPERIMENTS_DIRECTORY = Paths.get("experiments");
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and memory usage parameters on the dataset 3.
+     * The directory of the measurements and charts of a headless run when no other is given on the command line.
      */
-    public static void generateGraphDataSet3DataSizeVsMemoryUsage(){
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
+    private static final Path RESULTS_DIRECTORY = Paths.get("results");
 
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDiscreteDistribution(sizeOfInput);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
+    /**
+     * The charts of the run, only drawn once every measurement is done.
+     */
+    private static final ChartBatch CHARTS = new ChartBatch();
 
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Discrete Probability Distribution)");
-        lineChart.createChart("Memory Usage vs Data Size DataSet 3", xAxisList, map, "Data Size", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+    /**
+     * The writers every measurement is streamed to, none unless the results are exported.
+     */
+    private static final List<ResultWriter> RESULT_WRITERS = new CopyOnWriteArrayList<>();
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and memory usage parameters on the dataset 2.
+     * The main method where the program starts executing. This method runs every experiment matrix given on the
+     * command line, or all the ones of the {@code experiments} directory, and finally draws the charts of the run.
+     * With {@code --extended} it also runs the simulations of the sorting techniques that do not sort an
+     * {@code int[]}: the primitive types, the multi-key sort, the memory-mapped file and the external sort, which
+     * take long on inputs of up to 25 million numbers.
+     * <p>
+     * With {@code --headless}, which is the default when there is no display, no window is opened: every measurement
+     * is streamed to {@code measurements.csv} and {@code measurements.jsonl} and the charts are saved as PNG files,
+     * all in the {@code results} directory or the one given with {@code --output <directory>}. {@code --output} alone
+     * also exports the measurements but still shows the charts.
+     * <p>
+     * Every measurement is also appended to the {@link HistoryStore}, {@code history/results.jsonl} or the file given
+     * with {@code --history <file>}, unless {@code --no-history} is given, so that the run can later be compared
+     * against another one with {@link sorting.history.RegressionCheck}.
+     * <p>
+     * The matrices measuring operation counts are only run when the JVM is started with
+     * {@code -Dsorting.counters=true}, see {@link SortCounters}.
      *
+     * @param args stores all the command line arguments, the options and the paths of the experiment matrices to run.
      * @throws Exception An exception is thrown where is there is a problem with reading of files.
      */
-    public static void generateGraphDataSet2DataSizeVsMemoryUsage() throws Exception {
+    public static void main(String[] args) throws Exception {
+        boolean headless = GraphicsEnvironment.isHeadless();
+        boolean extended = false;
+        Path outputDirectory = null;
+        Path historyFile = HistoryStore.DEFAULT_FILE;
+        List<String> configFiles = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--headless")) {
+                headless = true;
+            } else if (args[i].equals("--output") || args[i].equals("--history")) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(args[i] + " requires a path");
+                }
+                if (args[i].equals("--output")) {
+                    outputDirectory = Paths.get(args[++i]);
+                } else {
+                    historyFile = Paths.get(args[++i]);
+                }
+            } else if (args[i].equals("--no-history")) {
+                historyFile = null;
+            } else if (args[i].equals("--extended")) {
+                extended = true;
+            } else {
+                configFiles.add(args[i]);
+            }
+        }
+        if (headless && outputDirectory == null) {
+            outputDirectory = RESULTS_DIRECTORY;
+        }
+        if (SortCounters.ENABLED) {
+            System.out.println("Counting the operations of the sorts, the run times include the cost of counting");
+        }
 
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> dataFromFile = Evaluation.getDataFromCreditCardData();
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        if (outputDirectory != null) {
+            Files.createDirectories(outputDirectory);
+            RESULT_WRITERS.add(new CsvResultWriter(outputDirectory.resolve("measurements.csv")));
+            RESULT_WRITERS.add(new JsonResultWriter(outputDirectory.resolve("measurements.jsonl")));
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Real-time Credit Card Data)");
-        lineChart.createChart("Memory Usage vs Data Size - Dataset 2", xAxisList, map, "Data Size", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
-    }
+        if (historyFile != null) {
+            RunEnvironment environment = RunEnvironment.detect();
+            RESULT_WRITERS.add(new HistoryStore(historyFile).append(environment));
+            System.out.println("Recording " + environment + " in " + historyFile);
+        }
+        try {
+            for (Path configFile : getExperimentMatrices(configFiles)) {
+                Evaluation.runExperimentMatrix(ExperimentMatrix.load(configFile));
+            }
 
-    /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on data size and memory usage parameters on the dataset 4.
-     *
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
-     */
-    public static void generateGraphDataSet4DataSizeVsMemoryUsage() throws Exception {
+            if (extended) {
+                Evaluation.generateGraphPrimitiveTypesDataSizeVsRunTime();
+                Evaluation.generateGraphDataSet4MultiKeySortDataSizeVsRunTime();
+                Evaluation.generateGraphMappedFileDataSizeVsRunTime();
+                Evaluation.generateGraphExternalSortMemoryBudgetVsRunTime();
+            }
+        } finally {
+            for (ResultWriter resultWriter : RESULT_WRITERS) {
+                resultWriter.close();
+            }
+            RESULT_WRITERS.clear();
+        }
 
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-        Collections.addAll(xAxisList, 100, 1000, 5000, 10000);
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> dataFromFile = Evaluation.getDataFromSalesRecordsData();
-        for (int sizeOfInput: xAxisList) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        // every measurement is done, so drawing the charts can no longer interfere with a measured run
+        if (headless) {
+            for (Path chartFile : CHARTS.saveAsPng(outputDirectory)) {
+                System.out.println("Saved " + chartFile);
+            }
+        } else {
+            CHARTS.show();
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Real-time Data Sorting");
-        lineChart.createChart("Memory Usage vs Data Size - Dataset 4", xAxisList, map, "Data Size", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and run time parameters on the dataset 1.
+     * Gets the experiment matrices to run, the ones given on the command line or else every {@code .properties}
+     * file of the {@code experiments} directory in the order of their names.
+     *
+     * @param configFiles the paths of the experiment matrices given on the command line.
+     *
+     * @return the {@link List} of paths of the experiment matrices.
+     * @throws IOException An exception is thrown where is there is a problem with listing the directory.
      */
-    public static void generateGraphDataSet1DegreeOfSortednessVsRunTime() {
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getUniformDistribution(sizeOfInput);
-
-            //Measuring degree of sortedness of the given input size and the random numbers generated
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+    private static List<Path> getExperimentMatrices(List<String> configFiles) throws IOException {
+        List<Path> configPaths = new ArrayList<>();
+        if (!configFiles.isEmpty()) {
+            for (String configFile : configFiles) {
+                configPaths.add(Paths.get(configFile));
+            }
+            return configPaths;
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Uniform Distribution)");
-        lineChart.createChart("Degree Of Sortedness vs Run Time DataSet 1", xAxisList, map, "Degree Of Sortedness", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+        try (DirectoryStream<Path> directory = Files.newDirectoryStream(EXPERIMENTS_DIRECTORY, "*.properties")) {
+            directory.forEach(configPaths::add);
+        }
+        Collections.sort(configPaths);
+        return configPaths;
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and run time parameters on the dataset 3.
+     * Runs every cell of an experiment matrix on the {@link ExperimentScheduler} and generates one graph per dataset,
+     * metric and X axis of the matrix. The cells are generated lazily and their results are folded into the series
+     * as they complete, so that a matrix of any size only holds the input of the cells being measured. The graphs
+     * by degree of sortedness reuse the measurements of the graphs by data size. A matrix measuring operation counts
+     * is skipped when the sorts do not count them.
+     *
+     * @param matrix the {@link ExperimentMatrix} to run.
      */
-    public static void generateGraphDataSet3DegreeOfSortednessVsRunTime() {
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDiscreteDistribution(sizeOfInput);
-
-            //Measuring degree of sortedness of the given input size and the random numbers generated
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+    public static void runExperimentMatrix(ExperimentMatrix matrix) {
+        if (!SortCounters.ENABLED) {
+            for (Metric metric : matrix.getMetrics()) {
+                if (metric.isOperationCount()) {
+                    System.out.println("Skipping experiment " + matrix.getName() + ": " + metric
+                            + " requires -Dsorting.counters=true");
+                    return;
+                }
+            }
+        }
+        long start = System.nanoTime();
+        TimingEngine timingEngine = matrix.createTimingEngine();
+        AllocationProfiler allocationProfiler = matrix.createAllocationProfiler();
+        SeriesCollector collector = new SeriesCollector(matrix.getXAxes());
+        EXPERIMENT_SCHEDULER.stream(matrix.iterator(), cell -> {
+            try {
+                return measure(cell, timingEngine, allocationProfiler);
+            } finally {
+                // every cell has its own sort, a configured parallel sort owning its threads
+                if (cell.getSort() instanceof ParallelSort) {
+                    ((ParallelSort) cell.getSort()).close();
+                }
+            }
+        }, collector);
+        System.out.println(String.format("Experiment %s: %d cells measured in %d s on %d threads", matrix.getName(),
+                matrix.getCellCount(), TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start),
+                EXPERIMENT_SCHEDULER.getParallelism()));
+
+        for (SeriesCollector.Chart chart : collector.getCharts()) {
+            if (chart.getMetric() == Metric.RUN_TIME && chart.getXAxis() == XAxis.DATA_SIZE) {
+                printSpeedups(matrix, chart);
+            }
+            CHARTS.add("Sorting Evaluation (" + chart.getDataset().getDescription() + ")",
+                    chart.getXAxis().getLabel() + " Vs " + chart.getMetric().getTitle() + " - " + matrix.getName(),
+                    chart.getXAxisData(), chart.getData(), chart.getXAxis().getLabel(), chart.getMetric().getLabel());
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Discrete Probability Distribution)");
-        lineChart.createChart("Degree Of Sortedness vs Run Time DataSet 3", xAxisList, map, "Degree Of Sortedness", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and run time parameters on the dataset 2.
+     * Prints the speedup of every sorting technique of a run time chart that has a speedup baseline in its
+     * experiment, at every input size measured for both.
      *
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     * @param matrix the {@link ExperimentMatrix} of the chart.
+     * @param chart the run time chart by data size.
      */
-    public static void generateGraphDataSet2DegreeOfSortednessVsRunTime() throws Exception {
+    private static void printSpeedups(ExperimentMatrix matrix, SeriesCollector.Chart chart) {
+        chart.getData().forEach((sortingType, runTimes) -> {
+            String baseline = matrix.getSpeedupBaseline(sortingType);
+            if (baseline == null || !chart.getData().containsKey(baseline)) {
+                return;
+            }
+            List<Number> sizes = chart.getXAxisData().get(sortingType);
+            List<Number> baselineSizes = chart.getXAxisData().get(baseline);
+            for (int i = 0; i < sizes.size(); i++) {
+                int j = baselineSizes.indexOf(sizes.get(i));
+                if (j >= 0) {
+                    System.out.println(String.format("Speedup at %s on %d cores: %s %.2fx over %s", sizes.get(i),
+                            Runtime.getRuntime().availableProcessors(), sortingType,
+                            (double) chart.getData().get(baseline).get(j) / Math.max(1, runTimes.get(i)), baseline));
+                }
+            }
+        });
+    }
 
-        Map<String, List<Integer>> map = new HashMap<>();
+    /**
+     * This method is responsible for running simulation of the {@code long}, {@code double} and {@code float}
+     * sorting techniques next to {@link Arrays#sort(long[])} and its overloads, based on data size and run time
+     * parameters on uniformly distributed data.
+     */
+    public static void generateGraphPrimitiveTypesDataSizeVsRunTime() {
+        Map<String, List<Integer>> map = new LinkedHashMap<>();
         List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        List<Integer> dataFromFile = Evaluation.getDataFromCreditCardData();
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-
-            //Measuring degree of sortedness of the given input size and the random numbers generated
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        Collections.addAll(xAxisList, 100000, 1000000, 5000000);
+        Random random = new Random();
+        for (int sizeOfInput: xAxisList) {
+            long[] longs = new long[sizeOfInput];
+            double[] doubles = new double[sizeOfInput];
+            float[] floats = new float[sizeOfInput];
+            for (int i = 0; i < sizeOfInput; i++) {
+                longs[i] = random.nextLong();
+                doubles[i] = random.nextGaussian() * 1000000;
+                floats[i] = (float) random.nextGaussian();
+            }
+            long[] longsToSort = new long[sizeOfInput];
+            double[] doublesToSort = new double[sizeOfInput];
+            float[] floatsToSort = new float[sizeOfInput];
+            Runnable restoreLongs = () -> System.arraycopy(longs, 0, longsToSort, 0, sizeOfInput);
+            Runnable restoreDoubles = () -> System.arraycopy(doubles, 0, doublesToSort, 0, sizeOfInput);
+            Runnable restoreFloats = () -> System.arraycopy(floats, 0, floatsToSort, 0, sizeOfInput);
+
+            LongSort longSort = new LongRadixSort();
+            DoubleSort doubleSort = new DoubleRadixSort();
+            FloatSort floatSort = new FloatRadixSort();
+            map.computeIfAbsent("LongRadixSort", key -> new ArrayList<>())
+                    .add(getDuration("LongRadixSort", sizeOfInput, restoreLongs, () -> longSort.sort(longsToSort)));
+            map.computeIfAbsent("Arrays.sort(long[])", key -> new ArrayList<>())
+                    .add(getDuration("Arrays.sort(long[])", sizeOfInput, restoreLongs, () -> Arrays.sort(longsToSort)));
+            map.computeIfAbsent("DoubleRadixSort", key -> new ArrayList<>())
+                    .add(getDuration("DoubleRadixSort", sizeOfInput, restoreDoubles, () -> doubleSort.sort(doublesToSort)));
+            map.computeIfAbsent("Arrays.sort(double[])", key -> new ArrayList<>())
+                    .add(getDuration("Arrays.sort(double[])", sizeOfInput, restoreDoubles, () -> Arrays.sort(doublesToSort)));
+            map.computeIfAbsent("FloatRadixSort", key -> new ArrayList<>())
+                    .add(getDuration("FloatRadixSort", sizeOfInput, restoreFloats, () -> floatSort.sort(floatsToSort)));
+            map.computeIfAbsent("Arrays.sort(float[])", key -> new ArrayList<>())
+                    .add(getDuration("Arrays.sort(float[])", sizeOfInput, restoreFloats, () -> Arrays.sort(floatsToSort)));
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Real-time Credit Card Data)");
-        lineChart.createChart("Degree Of Sortedness Vs Run Time - Dataset 2", xAxisList, map, "Degree Of Sortedness", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+        CHARTS.add("Sorting Evaluation (Primitive Types)", "Data Size Vs Run Time - long, double and float", xAxisList, map, "Data Size", "Run Time(in microseconds)");
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and run time parameters on the dataset 4.
+     * This method is responsible for running simulation of sorting the sales records by Region, Item Type and Units
+     * Sold, with the columnar {@link Table} next to sorting the row indexes with a {@link Comparator}, based on data
+     * size and run time parameters on the dataset 4.
      *
      * @throws Exception An exception is thrown where is there is a problem with reading of files.
      */
-    public static void generateGraphDataSet4DegreeOfSortednessVsRunTime() throws Exception {
-
-        Map<String, List<Integer>> map = new HashMap<>();
+    public static void generateGraphDataSet4MultiKeySortDataSizeVsRunTime() throws Exception {
+        Map<String, List<Integer>> map = new LinkedHashMap<>();
         List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        List<Integer> dataFromFile = Evaluation.getDataFromSalesRecordsData();
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-
-            //Measuring degree of sortedness of the given input size and the random numbers generated
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForRunTime(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        Collections.addAll(xAxisList, 1000, 2500, 5000, 7500, 10000);
+        Table salesRecords = Evaluation.getSalesRecordsTable();
+        for (int sizeOfInput: xAxisList) {
+            Table table = salesRecords.head(sizeOfInput);
+            StringColumn region = (StringColumn) table.getColumn("Region");
+            StringColumn itemType = (StringColumn) table.getColumn("Item Type");
+            IntColumn unitsSold = (IntColumn) table.getColumn("Units Sold");
+            Comparator<Integer> comparator = Comparator.<Integer, String>comparing(region::get)
+                    .thenComparing(itemType::get)
+                    .thenComparingInt(unitsSold::get);
+            Integer[] rows = new Integer[table.getRowCount()];
+            Runnable restoreRows = () -> {
+                for (int i = 0; i < rows.length; i++) {
+                    rows[i] = i;
+                }
+            };
+
+            map.computeIfAbsent("Table.orderBy", key -> new ArrayList<>())
+                    .add(getDuration("Table.orderBy", table.getRowCount(), () -> { },
+                            () -> table.orderBy("Region", "Item Type", "Units Sold")));
+            map.computeIfAbsent("Comparator", key -> new ArrayList<>())
+                    .add(getDuration("Comparator", table.getRowCount(), restoreRows,
+                            () -> Arrays.sort(rows, comparator)));
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Real-time Data Sorting");
-        lineChart.createChart("Degree Of Sortedness Vs Run Time - Dataset 4", xAxisList, map, "Degree Of Sortedness", "Run Time(in ms)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+        CHARTS.add("Sorting Evaluation (Dataset 4 - Multi-Key Sort)", "Data Size Vs Run Time - ORDER BY Region, Item Type, Units Sold", xAxisList, map, "Data Size", "Run Time(in microseconds)");
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and memory usage parameters on the dataset 1.
+     * This method is responsible for running simulation of sorting a memory-mapped file of uniformly distributed
+     * numbers in place with {@link MappedQuickSort}, next to sorting the same numbers on the heap with
+     * {@link QuickSort}, based on data size and run time parameters. Every size is mapped from a file of its own,
+     * as the mappings of the previous sizes are only released once they are garbage collected and truncating their
+     * file under them would make them fault.
+     *
+     * @throws Exception An exception is thrown where is there is a problem with creating or mapping the file.
      */
-    public static void generateGraphDataSet1DegreeOfSortednessVsMemoryUsage() {
-        Map<String, List<Integer>> map = new HashMap<>();
+    public static void generateGraphMappedFileDataSizeVsRunTime() throws Exception {
+        Map<String, List<Integer>> map = new LinkedHashMap<>();
         List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getUniformDistribution(sizeOfInput);
-
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        Collections.addAll(xAxisList, 1000000, 5000000, 10000000, 25000000);
+        for (int sizeOfInput: xAxisList) {
+            int[] uniformData = Dataset.UNIFORM.getData(sizeOfInput);
+            int[] arrayToSort = new int[sizeOfInput];
+            Sort quickSort = new QuickSort();
+            MappedIntSort mappedQuickSort = new MappedQuickSort();
+            Path file = Files.createTempFile("sorting-" + sizeOfInput + "-", ".bin");
+            try (MappedIntArray mappedArray = MappedIntArray.create(file, sizeOfInput)) {
+                map.computeIfAbsent("MappedQuickSort", key -> new ArrayList<>())
+                        .add(getDuration("MappedQuickSort", sizeOfInput,
+                                () -> mappedArray.put(0, uniformData, 0, sizeOfInput),
+                                () -> mappedQuickSort.sort(mappedArray)));
+            } finally {
+                try {
+                    // the live mapping keeps the space of the file until it is released
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    // a mapped file cannot be deleted on Windows
+                    file.toFile().deleteOnExit();
+                }
+            }
+            map.computeIfAbsent("QuickSort", key -> new ArrayList<>())
+                    .add(getDuration("QuickSort", sizeOfInput,
+                            () -> System.arraycopy(uniformData, 0, arrayToSort, 0, sizeOfInput),
+                            () -> quickSort.sort(arrayToSort)));
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Uniform Distribution)");
-        lineChart.createChart("Degree Of Sortedness vs Memory Usage DataSet 1", xAxisList, map, "Degree Of Sortedness", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+        CHARTS.add("Sorting Evaluation (Memory-Mapped File)", "Data Size Vs Run Time - Off-Heap", xAxisList, map, "Data Size", "Run Time(in microseconds)");
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and memory usage parameters on the dataset 3.
+     * This method is responsible for running simulation of sorting a file of uniformly distributed numbers with
+     * {@link ExternalMergeSort}, based on memory budget and run time parameters, for two fan-ins. Every cell is
+     * sorted once to print its statistics and then measured over a few runs only, with
+     * {@link #EXTERNAL_SORT_TIMING_ENGINE}, as every run spills the whole input to disk.
+     *
+     * @throws Exception An exception is thrown where is there is a problem with reading or writing of files.
      */
-    public static void generateGraphDataSet3DegreeOfSortednessednessVsMemoryUsage() {
-        Map<String, List<Integer>> map = new HashMap<>();
+    public static void generateGraphExternalSortMemoryBudgetVsRunTime() throws Exception {
+        Map<String, List<Integer>> map = new LinkedHashMap<>();
         List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDiscreteDistribution(sizeOfInput);
-
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
+        Collections.addAll(xAxisList, 1, 4, 16, 64);
+        int sizeOfInput = 16000000;
+        Path tempDirectory = Files.createTempDirectory("sorting");
+        Path input = tempDirectory.resolve("input.bin");
+        Path output = tempDirectory.resolve("output.bin");
+        try {
+            try (MappedIntArray mappedArray = MappedIntArray.create(input, sizeOfInput)) {
+                int[] uniformData = Dataset.UNIFORM.getData(sizeOfInput);
+                mappedArray.put(0, uniformData, 0, sizeOfInput);
+            }
+            for (int fanIn : new int[] {4, ExternalMergeSort.DEFAULT_FAN_IN}) {
+                String sortingType = "ExternalMergeSort (fan-in " + fanIn + ")";
+                for (int memoryBudget : xAxisList) {
+                    ExternalMergeSort externalMergeSort = new ExternalMergeSort(new QuickSort(),
+                            memoryBudget * 1024L * 1024L, fanIn, tempDirectory, ExternalMergeSort.DEFAULT_BUFFER_SIZE);
+                    System.out.println(sortingType + " " + memoryBudget + "MB " + externalMergeSort.sort(input, output));
+                    map.computeIfAbsent(sortingType, key -> new ArrayList<>())
+                            .add(getDuration(EXTERNAL_SORT_TIMING_ENGINE, sortingType, sizeOfInput, () -> { }, () -> {
+                                try {
+                                    externalMergeSort.sort(input, output);
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            }));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(tempDirectory);
         }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Discrete Probability Distribution)");
-        lineChart.createChart("Degree Of Sortedness vs Memory Usage DataSet 3", xAxisList, map, "Degree Of Sortedness", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+        CHARTS.add("Sorting Evaluation (External Merge Sort)", "Memory Budget Vs Run Time - " + sizeOfInput + " numbers", xAxisList, map, "Memory Budget(in MegaBytes)", "Run Time(in microseconds)");
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and memory usage parameters on the dataset 4.
+     * This method is responsible for reading all the columns of the sales records real time data from the file.
      *
+     * @return the {@link Table} of the sales records.
      * @throws Exception An exception is thrown where is there is a problem with reading of files.
      */
-    public static void generateGraphDataSet4DataSortednessVsMemoryUsage() throws Exception {
-
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        List<Integer> dataFromFile = Evaluation.getDataFromSalesRecordsData();
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-
-            Sort sort = new InsertionSort();
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Real-time Data Sorting");
-        lineChart.createChart("Degree Of Sortedness Vs Memory Usage - Dataset 4", xAxisList, map, "Degree Of Sortedness", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+    public static Table getSalesRecordsTable() throws Exception {
+        return Table.readCsv("creditCard/SalesRecordsData.csv",
+                // Region, Country, Item Type, Sales Channel, Order Priority, Order Date
+                ColumnType.STRING, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING,
+                // Order ID
+                ColumnType.INT,
+                // Ship Date
+                ColumnType.STRING,
+                // Units Sold
+                ColumnType.INT,
+                // Unit Price, Unit Cost, Total Revenue, Total Cost, Total Profit
+                ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.DOUBLE, ColumnType.DOUBLE);
     }
 
     /**
-     * This method is responsible for running simulation of all sorting techniques based
-     * on degree of sortedness and memory usage parameters on the dataset 4.
+     * This method is responsible for reading the credit card real time data from the file.
      *
+     * @return the credit limit data from the file, shared between the calls and not to be modified.
      * @throws Exception An exception is thrown where is there is a problem with reading of files.
      */
-    public static void generateGraphDataSet2DataSortednessVsMemoryUsage() throws Exception {
-
-        Map<String, List<Integer>> map = new HashMap<>();
-        List<Integer> xAxisList = new ArrayList<>();
-
-        List<Integer> datapointsInsertionSort = new ArrayList<>();
-        List<Integer> datapointsSelectionSort = new ArrayList<>();
-        List<Integer> datapointsBubbleSort = new ArrayList<>();
-        List<Integer> datapointsMergeSort = new ArrayList<>();
-        List<Integer> datapointsQuickSort = new ArrayList<>();
-
-        List<Integer> size = new ArrayList<Integer>();
-        Collections.addAll(size, 100, 1000, 5000, 10000);
-
-        List<Integer> dataFromFile = Evaluation.getDataFromCreditCardData();
-        for (int sizeOfInput: size) {
-            int[] randomNumbers = Evaluation.getDataFromList(dataFromFile, sizeOfInput);
-
-            int totalDegreeOfSortedness = 0;
-            totalDegreeOfSortedness = Evaluation.sortedMeasure(randomNumbers);
-            xAxisList.add(totalDegreeOfSortedness);
-            runSimulationForMemoryUsage(randomNumbers, datapointsBubbleSort, datapointsInsertionSort, datapointsMergeSort, datapointsQuickSort, datapointsSelectionSort);
-        }
-        map.put("InsertionSort", datapointsInsertionSort);
-        map.put("SelectionSort", datapointsSelectionSort);
-        map.put("BubbleSort", datapointsBubbleSort);
-        map.put("MergeSort", datapointsMergeSort);
-        map.put("QuickSort", datapointsQuickSort);
-        LineChart<Integer> lineChart = new LineChart<>("Sorting Evaluation (Real-time Credit Card Data)");
-        lineChart.createChart("Degree Of Sortedness Vs Memory Usage - Dataset 2", xAxisList, map, "Degree Of Sortedness", "Memory Usage(in KiloBytes)");
-        lineChart.pack();
-        RefineryUtilities.centerFrameOnScreen(lineChart);
-        lineChart.setVisible(true);
+    public static int[] getDataFromCreditCardData() throws Exception {
+        // Credit Limit
+        return readColumn("creditCard/CreditCardData.csv", 9);
     }
 
     /**
-     * This method is responsible for reading the credit card real time data from the file using SuperCsv Library.
+     * This method is responsible for reading the sales records real time data from the file.
      *
-     * @return {@link List} of {@link Integer} containing the credit limit data from the file.
+     * @return the units sold data from the file, shared between the calls and not to be modified.
      * @throws Exception An exception is thrown where is there is a problem with reading of files.
      */
-    public static List<Integer> getDataFromCreditCardData() throws Exception {
-        final CellProcessor[] cellProcessors = new CellProcessor[] {
-                new NotNull(),
-                // Card Type Full Name
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new ParseInt()
-        };
-
-        ICsvListReader listReader = null;
-        try {
-            listReader = new CsvListReader(new FileReader("creditCard/CreditCardData.csv"), CsvPreference.STANDARD_PREFERENCE);
-
-            listReader.getHeader(true); // skip the header (can't be used with CsvListReader)
-
-            List<Object> creditCardList;
-            List<Integer> creditCardLimits = new ArrayList<>();
-            while ((creditCardList = listReader.read(cellProcessors)) != null) {
-                creditCardLimits.add(Integer.parseInt((String) creditCardList.get(9)));
-            }
-
-            return creditCardLimits;
-
-        } finally {
-            if( listReader != null ) {
-                listReader.close();
-            }
-        }
+    public static int[] getDataFromSalesRecordsData() throws Exception {
+        // Units Sold
+        return readColumn("creditCard/SalesRecordsData.csv", 8);
     }
 
     /**
-     * This method is responsible for reading the credit card real time data from the file using SuperCsv Library.
+     * Reads a column of a CSV file through the {@link ColumnCache}, which only parses the file on the first run or
+     * after it changed, and prints the time and throughput of the load.
      *
-     * @return {@link List} of {@link Integer} containing the credit limit data from the file.
-     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     * @param fileName the name of the CSV file.
+     * @param column the index of the column to read, starting at 0.
+     *
+     * @return the numbers of the column, shared with the other loads of the column and not to be modified.
+     * @throws IOException An exception is thrown where is there is a problem with reading of files.
      */
-    public static List<Integer> getDataFromSalesRecordsData() throws Exception {
-        final CellProcessor[] cellProcessors = new CellProcessor[] {
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new ParseInt(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull(),
-                new NotNull()
-        };
-
-        ICsvListReader listReader = null;
-        try {
-            listReader = new CsvListReader(new FileReader("creditCard/SalesRecordsData.csv"), CsvPreference.STANDARD_PREFERENCE);
-
-            listReader.getHeader(true); // skip the header (can't be used with CsvListReader)
-
-            List<Object> salesRecordsList;
-            List<Integer> unitsSoldList = new ArrayList<>();
-            while ((salesRecordsList = listReader.read(cellProcessors)) != null) {
-                unitsSoldList.add((Integer) salesRecordsList.get(8));
-            }
-
-            return unitsSoldList;
-
-        } finally {
-            if( listReader != null ) {
-                listReader.close();
-            }
-        }
+    private static int[] readColumn(String fileName, int column) throws IOException {
+        Path file = Paths.get(fileName);
+        long start = System.nanoTime();
+        int[] values = COLUMN_CACHE.read(file, column);
+        long elapsed = Math.max(System.nanoTime() - start, 1);
+        double megabytes = Files.size(file) / (1024.0 * 1024.0);
+        System.out.println(String.format("Loaded %s: %d rows, %.1f MB in %d ms, %.1f MB/s", fileName, values.length,
+                megabytes, TimeUnit.NANOSECONDS.toMillis(elapsed), megabytes * TimeUnit.SECONDS.toNanos(1) / elapsed));
+        return values;
     }
 
     /**
-     * Gets an integer array from the {@link List} of {@link Integer} based on {@code numberOfInputs}.
+     * Gets a copy of the first {@code numberOfInputs} numbers of the data read from a file.
      *
-     * @param data the {@link List} of {@link Integer} containing all the data.
+     * @param data the array containing all the data.
      * @param numberOfInputs the input size requied.
      *
      * @return the integer array.
      */
-    public static int[] getDataFromList(List<Integer> data, int numberOfInputs) {
-        int[] creditCardArray = new int[numberOfInputs];
-        Integer[] temp = data.toArray(new Integer[numberOfInputs]);
-        for (int n = 0; n < numberOfInputs; ++n) {
-            creditCardArray[n] = temp[n];
+    public static int[] getDataFromArray(int[] data, int numberOfInputs) {
+        if (numberOfInputs > data.length) {
+            throw new IllegalArgumentException("Only " + data.length + " numbers available, " + numberOfInputs + " requested");
         }
-
-        return creditCardArray;
+        return Arrays.copyOf(data, numberOfInputs);
     }
 
     /**
@@ -777,169 +565,157 @@ public class Evaluation {
     }
 
     /**
-     * Records and returns the run time of a sorting technique given an input data and the sorting type.
+     * Records the run time of a sorting technique with the given {@link TimingEngine}.
      *
-     * @param inputArray the input array.
+     * @param timingEngine the {@link TimingEngine} measuring the run time.
+     * @param sortingType the name the cell is printed and recorded under.
+     * @param dataset the {@link Dataset} the input array was taken from.
+     * @param inputPool the {@link InputPool} providing a fresh copy of the input array for every run.
      * @param currentSortingType the {@link Sort} type.
      *
-     * @return the run time for running the sorting techniqe on the given input data.
+     * @return the median run time in microseconds for running the sorting technique on the given input data.
      */
-    public static int getDuration(int[] inputArray, Sort currentSortingType) {
-        Instant startTime = Instant.now();
-        currentSortingType.sort(inputArray);
-        Instant endTime = Instant.now();
-        int duration = Duration.between(startTime, endTime).getNano()/1000000;
-        return duration;
+    private static int getDuration(TimingEngine timingEngine, String sortingType, Dataset dataset,
+                                   InputPool inputPool, Sort currentSortingType) {
+        TimingResult timingResult = timingEngine.measure(inputPool, currentSortingType);
+        System.out.println(String.format("%-14s %-14s %8d  %s%s",
+                sortingType, dataset, inputPool.size(), timingResult,
+                getStrategy(currentSortingType)));
+        record(Measurement.ofTiming(sortingType, dataset.name(), inputPool.size(),
+                timingResult));
+        return (int) TimeUnit.NANOSECONDS.toMicros(timingResult.getMedian());
     }
 
     /**
-     * Gets the run time memory usage for sorting the given input array and based on the current sorting type.
+     * Records the run time of any sorting task, prints the percentiles of the cell and returns the median. This is
+     * how the sorting techniques of arrays other than {@code int[]} are measured.
      *
-     * @param inputArray the input array.
-     * @param currentSortingType the {@link Sort} type.
+     * @param sortingType the name of the sorting technique.
+     * @param sizeOfInput the input size.
+     * @param restoreInput the unmeasured task restoring the unsorted input before every run.
+     * @param sortInput the task sorting the input.
      *
-     * @return the run time memory usage for sorting the given input array and based on the current sorting type.
+     * @return the median run time in microseconds for running the sorting task.
      */
-    public static long getMemoryUsage(int[] inputArray, Sort currentSortingType) {
-        long beforeUsedMemory = Runtime.getRuntime().totalMemory()- Runtime.getRuntime().freeMemory();
-        currentSortingType.sort(inputArray);
-        long afterUsedMemory = Runtime.getRuntime().totalMemory()- Runtime.getRuntime().freeMemory();
-        long actualMemoryUsage = (afterUsedMemory - beforeUsedMemory) / 1024;
-        return actualMemoryUsage;
+    public static int getDuration(String sortingType, int sizeOfInput, Runnable restoreInput, Runnable sortInput) {
+        return getDuration(TIMING_ENGINE, sortingType, sizeOfInput, restoreInput, sortInput);
     }
 
     /**
-     * Responsible for measuring the Inversions of sorting which is one of the degrees of sortedness.
+     * Records the run time of any sorting task with the given {@link TimingEngine}.
      *
-     * @param inputArray the input array.
+     * @param timingEngine the {@link TimingEngine} measuring the run time.
+     * @param sortingType the name of the sorting technique.
+     * @param sizeOfInput the input size.
+     * @param restoreInput the unmeasured task restoring the unsorted input before every run.
+     * @param sortInput the task sorting the input.
      *
-     * @return the Inversions of sorting which is one of the degrees of sortedness.
+     * @return the median run time in microseconds for running the sorting task.
      */
-    public static int sortedMeasure(int[] inputArray) {
+    private static int getDuration(TimingEngine timingEngine, String sortingType, int sizeOfInput,
+                                   Runnable restoreInput, Runnable sortInput) {
+        TimingResult timingResult = timingEngine.measure(restoreInput, sortInput);
+        System.out.println(String.format("%-14s %-14s %8d  %s", sortingType, "", sizeOfInput, timingResult));
+        record(Measurement.ofTiming(sortingType, "", sizeOfInput, timingResult));
+        return (int) TimeUnit.NANOSECONDS.toMicros(timingResult.getMedian());
+    }
 
-        int count = 0;
-        for (int i = 0; i < inputArray.length - 1; i++) {
-            for (int j = i + 1; j < inputArray.length; j++) {
-                if (inputArray[i] > inputArray[j]) {
-                    count++;
-                }
+    /**
+     * Streams a measurement to every result writer of the run.
+     *
+     * @param measurement the {@link Measurement} to write.
+     */
+    private static void record(Measurement measurement) {
+        for (ResultWriter resultWriter : RESULT_WRITERS) {
+            try {
+                resultWriter.write(measurement);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
             }
         }
-        return count;
     }
 
     /**
-     * Runs simulation for measuring running time for every sorting technique based on the given {@code inputArray}.
-     *
-     * @param inputArray the input Array.
-     * @param datapointsBubbleSort  the {@link List} of {@link Integer} to store the run time data points for Bubble Sort.
-     * @param datapointsInsertionSort the {@link List} of {@link Integer} to store the run time data points for Insertion Sort.
-     * @param datapointsMergeSort the {@link List} of {@link Integer} to store the run time data points for Merge Sort.
-     * @param datapointsQuickSort the {@link List} of {@link Integer} to store the run time data points for Quick Sort.
-     * @param datapointsSelectionSort the {@link List} of {@link Integer} to store the run time data points for Selection Sort.
-     */
-    public static void runSimulationForRunTime(final int[] inputArray,
-                                               final List<Integer> datapointsBubbleSort,
-                                               final List<Integer> datapointsInsertionSort,
-                                               final List<Integer> datapointsMergeSort,
-                                               final List<Integer> datapointsQuickSort,
-                                               final List<Integer> datapointsSelectionSort) {
-        //Measuring insertion sort running time
-        int duration = 0;
-        Sort sort = new InsertionSort();
-        duration = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            duration = duration + Evaluation.getDuration(inputArray, sort);
-        }
-        datapointsInsertionSort.add(duration/5);
-
-        // Measuring selection sort running time
-        sort = new SelectionSort();
-        duration = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            duration = duration + Evaluation.getDuration(inputArray, sort);
-        }
-        datapointsSelectionSort.add(duration/5);
-
-        // Measuring bubble sort running time
-        sort = new BubbleSort();
-        duration = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            duration = duration + Evaluation.getDuration(inputArray, sort);
-        }
-        datapointsBubbleSort.add(duration/5);
-
-        // Measuring merge sort running time
-        sort = new MergeSort();
-        duration = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            duration = duration + Evaluation.getDuration(inputArray, sort);
-        }
-        datapointsMergeSort.add(duration/5);
-
-        // Measuring quick sort running time
-        sort = new QuickSort();
-        duration = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            duration = duration + Evaluation.getDuration(inputArray, sort);
+     * Gets the strategy taken by the last run of a sorting technique that chooses one depending on its input.
+     *
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the strategy to append to the printed cell, or an empty string for the other sorting techniques.
+     */
+    private static String getStrategy(Sort currentSortingType) {
+        if (currentSortingType instanceof StrategyReporting) {
+            return " strategy=" + ((StrategyReporting) currentSortingType).getLastStrategy();
         }
-        datapointsQuickSort.add(duration/5);
+        return "";
     }
 
     /**
-     * Runs simulation for measuring memory usage for every sorting technique based on the given {@code inputArray}.
-     *
-     * @param inputArray the input Array.
-     * @param datapointsBubbleSort  the {@link List} of {@link Integer} to store the run time data points for Bubble Sort.
-     * @param datapointsInsertionSort the {@link List} of {@link Integer} to store the run time data points for Insertion Sort.
-     * @param datapointsMergeSort the {@link List} of {@link Integer} to store the run time data points for Merge Sort.
-     * @param datapointsQuickSort the {@link List} of {@link Integer} to store the run time data points for Quick Sort.
-     * @param datapointsSelectionSort the {@link List} of {@link Integer} to store the run time data points for Selection Sort.
-     */
-    public static void runSimulationForMemoryUsage(final int[] inputArray,
-                                                   final List<Integer> datapointsBubbleSort,
-                                                   final List<Integer> datapointsInsertionSort,
-                                                   final List<Integer> datapointsMergeSort,
-                                                   final List<Integer> datapointsQuickSort,
-                                                   final List<Integer> datapointsSelectionSort) {
-        //Measuring insertion sort memory usage
-        long totalMemoryUsage = 0;
-        Sort sort = new InsertionSort();
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            totalMemoryUsage = totalMemoryUsage + Evaluation.getMemoryUsage(inputArray, sort);
-        }
-        datapointsInsertionSort.add((int)totalMemoryUsage/5);
-
-        // Measuring selection sort memory usage
-        sort = new SelectionSort();
-        totalMemoryUsage = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            totalMemoryUsage = totalMemoryUsage + Evaluation.getMemoryUsage(inputArray, sort);
-        }
-        datapointsSelectionSort.add((int)(totalMemoryUsage/5));
+     * Gets the memory allocated for sorting the given input array with the given {@link AllocationProfiler}.
+     *
+     * @param allocationProfiler the {@link AllocationProfiler} measuring the memory usage.
+     * @param sortingType the name the cell is printed and recorded under.
+     * @param dataset the {@link Dataset} the input array was taken from.
+     * @param inputPool the {@link InputPool} providing a fresh copy of the input array for every run.
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the kilobytes allocated per run for sorting the given input array with the current sorting type.
+     */
+    private static int getMemoryUsage(AllocationProfiler allocationProfiler, String sortingType, Dataset dataset,
+                                      InputPool inputPool, Sort currentSortingType) {
+        AllocationResult allocationResult = allocationProfiler.measure(inputPool, currentSortingType);
+        System.out.println(String.format("%-14s %-14s %8d  %s",
+                sortingType, dataset, inputPool.size(), allocationResult));
+        record(Measurement.ofAllocation(sortingType, dataset.name(),
+                inputPool.size(), allocationResult));
+        return (int) (allocationResult.getAllocatedBytes() / 1024);
+    }
 
-        // Measuring bubble sort memory usage
-        sort = new BubbleSort();
-        totalMemoryUsage = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            totalMemoryUsage = totalMemoryUsage + Evaluation.getMemoryUsage(inputArray, sort);
-        }
-        datapointsBubbleSort.add((int)(totalMemoryUsage/5));
+    /**
+     * Counts the operations of sorting the given input array with the current sorting type, and prints all the
+     * counts of the cell.
+     *
+     * @param metric the operation count {@link Metric} to return.
+     * @param sortingType the name the cell is printed and recorded under.
+     * @param dataset the {@link Dataset} the input array was taken from.
+     * @param inputPool the {@link InputPool} providing a fresh copy of the input array.
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the count of the metric, the auxiliary memory being in kilobytes.
+     */
+    private static int getOperationCount(Metric metric, String sortingType, Dataset dataset, InputPool inputPool,
+                                         Sort currentSortingType) {
+        OperationCounts operationCounts = OPERATION_COUNTER.measure(inputPool, currentSortingType);
+        System.out.println(String.format("%-14s %-14s %8d  %s%s",
+                sortingType, dataset, inputPool.size(), operationCounts,
+                getStrategy(currentSortingType)));
+        Measurement measurement = Measurement.ofOperationCounts(sortingType, dataset.name(), inputPool.size(),
+                metric, operationCounts);
+        record(measurement);
+        long count = metric == Metric.AUXILIARY_MEMORY ? measurement.getValue() / 1024 : measurement.getValue();
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
 
-        // Measuring merge sort memory usage
-        sort = new MergeSort();
-        totalMemoryUsage = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            totalMemoryUsage = totalMemoryUsage + Evaluation.getMemoryUsage(inputArray, sort);
+    /**
+     * Measures one {@link ExperimentCell} with the given engines, such as the ones configured by an
+     * {@link ExperimentMatrix}.
+     *
+     * @param cell the {@link ExperimentCell} to measure.
+     * @param timingEngine the {@link TimingEngine} measuring the run time.
+     * @param allocationProfiler the {@link AllocationProfiler} measuring the memory usage.
+     *
+     * @return the median run time in microseconds, the kilobytes allocated per run or the operation count,
+     * depending on the metric.
+     */
+    public static int measure(ExperimentCell cell, TimingEngine timingEngine, AllocationProfiler allocationProfiler) {
+        InputPool inputPool = new InputPool(cell.getInput());
+        if (cell.getMetric() == Metric.MEMORY_USAGE) {
+            return getMemoryUsage(allocationProfiler, cell.getSortingType(), cell.getDataset(), inputPool,
+                    cell.getSort());
         }
-        datapointsMergeSort.add((int)totalMemoryUsage/5);
-
-        // Measuring Quick sort memory usage
-        sort = new QuickSort();
-        totalMemoryUsage = 0;
-        for (int noOfTimes = 0; noOfTimes < 5; noOfTimes++) {
-            totalMemoryUsage = totalMemoryUsage + Evaluation.getMemoryUsage(inputArray, sort);
+        if (cell.getMetric().isOperationCount()) {
+            return getOperationCount(cell.getMetric(), cell.getSortingType(), cell.getDataset(), inputPool,
+                    cell.getSort());
         }
-        datapointsQuickSort.add((int)(totalMemoryUsage/5));
+        return getDuration(timingEngine, cell.getSortingType(), cell.getDataset(), inputPool, cell.getSort());
     }
 }
@@ -0,0 +1,85 @@
+package sorting.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import sorting.Dataset;
+import sorting.types.Sort;
+import sorting.types.SortCounters;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the cost of the {@link SortCounters}. Every sort is measured in JVMs forked with counting off and
+ * on. If the JIT compiler drops the counting code when counting is off, as it is expected to, the scores with counting
+ * off match the ones of {@link SortBenchmark} within their error bars; running with {@code -prof perfasm} shows
+ * whether the hot loops of the sorts still contain the counters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class CounterOverheadBenchmark {
+
+    /**
+     * Simple class name of the {@link Sort} implementation in the {@code sorting.types} package.
+     */
+    @Param({"InsertionSort", "MergeSort", "QuickSort", "HeapSort", "RadixSort", "TimSort"})
+    public String algorithm;
+
+    @Param({"1000", "10000"})
+    public int sizeOfInput;
+
+    private Sort sort;
+    private int[] pristineInput;
+    private int[] inputArray;
+
+    /**
+     * Loads the input once per trial so file reading never shows up in the measurement.
+     *
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        sort = (Sort) Class.forName(Sort.class.getPackage().getName() + "." + algorithm)
+                .getDeclaredConstructor()
+                .newInstance();
+        pristineInput = Dataset.UNIFORM.getData(sizeOfInput);
+        inputArray = new int[sizeOfInput];
+    }
+
+    /**
+     * Restores the unsorted input before every call, like {@link SortBenchmark#setUpInvocation()}.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(pristineInput, 0, inputArray, 0, pristineInput.length);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dsorting.counters=false"})
+    public int[] countersDisabled() {
+        return sort.sort(inputArray);
+    }
+
+    @Benchmark
+    @Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-Dsorting.counters=true"})
+    public int[] countersEnabled() {
+        return sort.sort(inputArray);
+    }
+
+    /**
+     * Runs the benchmark without the JMH uber jar, e.g. from the IDE.
+     *
+     * @param args stores all the command line arguments.
+     * @throws RunnerException An exception is thrown when the benchmark run fails.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CounterOverheadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,74 @@
+package sorting.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.supercsv.io.CsvListReader;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
+import sorting.io.CsvColumnReader;
+import sorting.io.ParallelCsvColumnReader;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of reading the units sold column of the sales records data with {@link CsvColumnReader} and
+ * {@link ParallelCsvColumnReader}, next to reading it with SuperCsv into a {@link List} of {@link Integer} as the
+ * baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class CsvLoadBenchmark {
+
+    @Param({"creditCard/SalesRecordsData.csv"})
+    public String fileName;
+
+    @Param({"8"})
+    public int column;
+
+    @Benchmark
+    public int[] csvColumnReader() throws IOException {
+        return new CsvColumnReader(column).read(Paths.get(fileName));
+    }
+
+    @Benchmark
+    public int[] parallelCsvColumnReader() throws IOException {
+        return new ParallelCsvColumnReader(column).read(Paths.get(fileName));
+    }
+
+    @Benchmark
+    public List<Integer> superCsv() throws IOException {
+        try (ICsvListReader listReader = new CsvListReader(new FileReader(fileName), CsvPreference.STANDARD_PREFERENCE)) {
+            listReader.getHeader(true);
+            List<String> row;
+            List<Integer> values = new ArrayList<>();
+            while ((row = listReader.read()) != null) {
+                values.add(Integer.parseInt(row.get(column)));
+            }
+            return values;
+        }
+    }
+
+    /**
+     * Runs the benchmark without the JMH uber jar, e.g. from the IDE.
+     *
+     * @param args stores all the command line arguments.
+     * @throws RunnerException An exception is thrown when the benchmark run fails.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CsvLoadBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
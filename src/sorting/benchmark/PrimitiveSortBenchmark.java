@@ -0,0 +1,112 @@
+package sorting.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import sorting.types.DoubleRadixSort;
+import sorting.types.FloatRadixSort;
+import sorting.types.LongRadixSort;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the {@code long}, {@code double} and {@code float} sorts, next to {@link Arrays#sort(long[])}
+ * and its overloads as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class PrimitiveSortBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int sizeOfInput;
+
+    private final LongRadixSort longRadixSort = new LongRadixSort();
+    private final DoubleRadixSort doubleRadixSort = new DoubleRadixSort();
+    private final FloatRadixSort floatRadixSort = new FloatRadixSort();
+
+    private long[] pristineLongs;
+    private double[] pristineDoubles;
+    private float[] pristineFloats;
+    private long[] longs;
+    private double[] doubles;
+    private float[] floats;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        Random random = new Random();
+        pristineLongs = new long[sizeOfInput];
+        pristineDoubles = new double[sizeOfInput];
+        pristineFloats = new float[sizeOfInput];
+        for (int i = 0; i < sizeOfInput; i++) {
+            pristineLongs[i] = random.nextLong();
+            pristineDoubles[i] = random.nextGaussian() * 1000000;
+            pristineFloats[i] = (float) random.nextGaussian();
+        }
+        longs = new long[sizeOfInput];
+        doubles = new double[sizeOfInput];
+        floats = new float[sizeOfInput];
+    }
+
+    /**
+     * Restores the unsorted inputs before every call, see {@link SortBenchmark#setUpInvocation()}.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(pristineLongs, 0, longs, 0, sizeOfInput);
+        System.arraycopy(pristineDoubles, 0, doubles, 0, sizeOfInput);
+        System.arraycopy(pristineFloats, 0, floats, 0, sizeOfInput);
+    }
+
+    @Benchmark
+    public long[] longRadixSort() {
+        return longRadixSort.sort(longs);
+    }
+
+    @Benchmark
+    public long[] longArraysSort() {
+        Arrays.sort(longs);
+        return longs;
+    }
+
+    @Benchmark
+    public double[] doubleRadixSort() {
+        return doubleRadixSort.sort(doubles);
+    }
+
+    @Benchmark
+    public double[] doubleArraysSort() {
+        Arrays.sort(doubles);
+        return doubles;
+    }
+
+    @Benchmark
+    public float[] floatRadixSort() {
+        return floatRadixSort.sort(floats);
+    }
+
+    @Benchmark
+    public float[] floatArraysSort() {
+        Arrays.sort(floats);
+        return floats;
+    }
+
+    /**
+     * Runs the benchmark without the JMH uber jar, e.g. from the IDE.
+     *
+     * @param args stores all the command line arguments.
+     * @throws RunnerException An exception is thrown when the benchmark run fails.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PrimitiveSortBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,84 @@
+package sorting.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import sorting.Dataset;
+import sorting.types.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of every {@link Sort} implementation, for every {@link Dataset} and input size used by the
+ * simulation. Every measurement runs in a forked JVM after a warmup phase, so the reported scores and error bars
+ * describe JIT-compiled code only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 2, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+public class SortBenchmark {
+
+    /**
+     * Simple class name of the {@link Sort} implementation in the {@code sorting.types} package.
+     */
+    @Param({"InsertionSort", "SelectionSort", "BubbleSort", "MergeSort", "QuickSort", "HeapSort",
+            "ParallelMergeSort", "ParallelQuickSort", "ArraysParallelSort", "RadixSort",
+            "CountingSort", "AdaptiveSort", "TimSort"})
+    public String algorithm;
+
+    @Param({"100", "1000", "5000", "10000"})
+    public int sizeOfInput;
+
+    @Param({"UNIFORM", "CREDIT_CARD", "DISCRETE", "SALES_RECORDS"})
+    public Dataset dataset;
+
+    private Sort sort;
+    private int[] pristineInput;
+    private int[] inputArray;
+
+    /**
+     * Loads the dataset once per trial so file reading never shows up in the measurement.
+     *
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() throws Exception {
+        sort = (Sort) Class.forName(Sort.class.getPackage().getName() + "." + algorithm)
+                .getDeclaredConstructor()
+                .newInstance();
+        pristineInput = dataset.getData(sizeOfInput);
+        inputArray = new int[sizeOfInput];
+    }
+
+    /**
+     * Restores the unsorted input before every call, otherwise the in-place sorts would be measured on
+     * already sorted data after the first invocation. The smallest sort here takes microseconds, so the
+     * per-invocation setup overhead stays well below the measurement error.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        System.arraycopy(pristineInput, 0, inputArray, 0, pristineInput.length);
+    }
+
+    @Benchmark
+    public int[] sort() {
+        return sort.sort(inputArray);
+    }
+
+    /**
+     * Runs the benchmark without the JMH uber jar, e.g. from the IDE.
+     *
+     * @param args stores all the command line arguments.
+     * @throws RunnerException An exception is thrown when the benchmark run fails.
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SortBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,8 @@
+package sorting.experiment;
+
+/**
+ * Measures an {@link ExperimentCell}.
+ */
+public interface CellMeasurement {
+    int measure(ExperimentCell cell);
+}
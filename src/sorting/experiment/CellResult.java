@@ -0,0 +1,34 @@
+package sorting.experiment;
+
+/**
+ * The measured value of an {@link ExperimentCell}.
+ */
+public class CellResult {
+
+    private final ExperimentCell cell;
+    private final int value;
+
+    /**
+     * Creates the result.
+     *
+     * @param cell the measured {@link ExperimentCell}.
+     * @param value the median run time in microseconds or the kilobytes allocated per run, depending on the metric.
+     */
+    public CellResult(ExperimentCell cell, int value) {
+        this.cell = cell;
+        this.value = value;
+    }
+
+    public ExperimentCell getCell() {
+        return cell;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return cell + " = " + value;
+    }
+}
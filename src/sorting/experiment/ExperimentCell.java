@@ -0,0 +1,98 @@
+package sorting.experiment;
+
+import sorting.Dataset;
+import sorting.types.ParallelSort;
+import sorting.types.Sort;
+
+/**
+ * One measurement of an experiment: one sorting technique measured for one metric on one input.
+ *
+ * A cell is exclusive when it must not share the machine with any other measurement: either its sorting technique
+ * is a {@link ParallelSort}, or its metric is not confined to the measuring thread, like the heap peak and the
+ * garbage collections of {@link Metric#MEMORY_USAGE} and the operation counts, which are shared by all threads, or
+ * its input is at least {@link #EXCLUSIVE_INPUT_SIZE} numbers.
+ */
+public class ExperimentCell {
+
+    /**
+     * The input size from which a cell is exclusive. The input and its working copy then outgrow the private caches
+     * of a core, so a cell measured next to it would compete with it for the shared cache and the memory bandwidth,
+     * and its garbage would trigger collections pausing the other cells.
+     */
+    public static final int EXCLUSIVE_INPUT_SIZE = 1 << 16;
+
+    private final Dataset dataset;
+    private final Metric metric;
+    private final String sortingType;
+    private final Sort sort;
+    private final int[] input;
+    private final boolean exclusive;
+
+    /**
+     * Creates the cell.
+     *
+     * @param dataset the {@link Dataset} the input was taken from.
+     * @param metric the {@link Metric} to measure.
+     * @param sortingType the name of the sorting technique.
+     * @param sort the {@link Sort} to measure, used by this cell only.
+     * @param input the unsorted input, which may be shared between cells as it is never modified.
+     */
+    public ExperimentCell(Dataset dataset, Metric metric, String sortingType, Sort sort, int[] input) {
+        this(dataset, metric, sortingType, sort, input, false);
+    }
+
+    /**
+     * Creates the cell, possibly exclusive whatever its metric, sort and input, such as the sequential baseline of
+     * a parallel sort which must be measured under the same conditions as the parallel sort.
+     *
+     * @param dataset the {@link Dataset} the input was taken from.
+     * @param metric the {@link Metric} to measure.
+     * @param sortingType the name of the sorting technique.
+     * @param sort the {@link Sort} to measure, used by this cell only.
+     * @param input the unsorted input, which may be shared between cells as it is never modified.
+     * @param exclusive whether the cell is exclusive in any case.
+     */
+    public ExperimentCell(Dataset dataset, Metric metric, String sortingType, Sort sort, int[] input,
+                          boolean exclusive) {
+        this.dataset = dataset;
+        this.metric = metric;
+        this.sortingType = sortingType;
+        this.sort = sort;
+        this.input = input;
+        this.exclusive = exclusive || metric == Metric.MEMORY_USAGE || metric.isOperationCount()
+                || sort instanceof ParallelSort || input.length >= EXCLUSIVE_INPUT_SIZE;
+    }
+
+    public Dataset getDataset() {
+        return dataset;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public String getSortingType() {
+        return sortingType;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public int[] getInput() {
+        return input;
+    }
+
+    public int getSizeOfInput() {
+        return input.length;
+    }
+
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    @Override
+    public String toString() {
+        return sortingType + " " + dataset + " " + input.length + " " + metric;
+    }
+}
@@ -0,0 +1,420 @@
+package sorting.experiment;
+
+import sorting.Dataset;
+import sorting.measurement.AllocationProfiler;
+import sorting.measurement.TimingEngine;
+import sorting.types.ParallelSort;
+import sorting.types.Sort;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * An experiment described by a properties file: every combination of its datasets, sizes, algorithms and metrics is
+ * one {@link ExperimentCell}. The keys are
+ * <ul>
+ *     <li>{@code name}, the title of the charts, by default the name of the file;</li>
+ *     <li>{@code datasets}, the {@link Dataset} constants;</li>
+ *     <li>{@code sizes}, the input sizes, each either a number or a geometric range {@code first..last*factor}
+ *     such as {@code 1000..100000000*10};</li>
+ *     <li>{@code algorithms}, the simple class names of the sorting techniques found by {@link SortRegistry}, each
+ *     possibly followed by the arguments of its constructor such as {@code ParallelMergeSort(2, 8192)}, or
+ *     {@code *} for all of them;</li>
+ *     <li>{@code metrics}, the {@link Metric} constants, by default {@code RUN_TIME};</li>
+ *     <li>{@code xAxes}, the {@link XAxis} constants to chart the results against, by default {@code DATA_SIZE};</li>
+ *     <li>{@code warmup} and {@code repetitions}, the unrecorded and recorded runs of the {@link TimingEngine};</li>
+ *     <li>{@code memory.warmup} and {@code memory.repetitions}, those of the {@link AllocationProfiler};</li>
+ *     <li>{@code maxSize.<algorithm>}, the largest input size measured for an algorithm, to keep the quadratic
+ *     sorting techniques out of large sweeps;</li>
+ *     <li>{@code unsortedTails}, to measure nearly sorted inputs: for every size, one input per tail length, sorted
+ *     but for its last numbers, to be charted against the {@link XAxis#DEGREE_OF_SORTEDNESS};</li>
+ *     <li>{@code exclusive}, {@code true} to measure every cell alone, such as the sequential baselines of the
+ *     parallel sorting techniques, see {@link ExperimentCell#isExclusive()};</li>
+ *     <li>{@code speedup.<class name>}, the algorithm the run times of a sorting technique, in any configuration,
+ *     are divided by to print its speedup.</li>
+ * </ul>
+ * Lists are separated by commas. The cells are created lazily while iterating, in the order dataset, size,
+ * unsorted tail, algorithm, metric, and the input of a dataset, size and tail is only generated when its first cell
+ * is reached, so a sweep never holds more than the input of the cells being measured and the next one.
+ */
+public class ExperimentMatrix implements Iterable<ExperimentCell> {
+
+    private final String name;
+    private final List<Dataset> datasets;
+    private final List<Integer> sizes;
+    private final List<String> algorithms;
+    private final List<Metric> metrics;
+    private final List<XAxis> xAxes;
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final int memoryWarmupIterations;
+    private final int memoryMeasuredIterations;
+    private final Map<String, Integer> maxSizes;
+    private final List<Integer> unsortedTails;
+    private final boolean exclusive;
+    private final Map<String, String> speedupBaselines;
+
+    private ExperimentMatrix(String name, Properties properties) {
+        this.name = properties.getProperty("name", name).trim();
+        this.datasets = parseEnums(Dataset.class, getRequired(properties, "datasets"));
+        this.sizes = parseSizes(getRequired(properties, "sizes"));
+        this.metrics = parseEnums(Metric.class, properties.getProperty("metrics", Metric.RUN_TIME.name()));
+        this.xAxes = parseEnums(XAxis.class, properties.getProperty("xAxes", XAxis.DATA_SIZE.name()));
+        this.warmupIterations = parseInt(properties, "warmup", TimingEngine.DEFAULT_WARMUP_ITERATIONS);
+        this.measuredIterations = parseInt(properties, "repetitions", TimingEngine.DEFAULT_MEASURED_ITERATIONS);
+        this.memoryWarmupIterations = parseInt(properties, "memory.warmup", AllocationProfiler.DEFAULT_WARMUP_ITERATIONS);
+        this.memoryMeasuredIterations = parseInt(properties, "memory.repetitions", AllocationProfiler.DEFAULT_MEASURED_ITERATIONS);
+
+        String algorithmList = getRequired(properties, "algorithms");
+        List<String> algorithmNames = algorithmList.trim().equals("*")
+                ? new ArrayList<>(SortRegistry.getSortingTypes()) : split(algorithmList);
+        for (String algorithm : algorithmNames) {
+            // fail on unknown algorithms before anything is measured, without keeping the pool of a parallel one
+            Sort sort = SortRegistry.create(algorithm);
+            if (sort instanceof ParallelSort) {
+                ((ParallelSort) sort).close();
+            }
+        }
+        this.algorithms = Collections.unmodifiableList(algorithmNames);
+
+        Map<String, Integer> maxSizesByAlgorithm = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith("maxSize.")) {
+                maxSizesByAlgorithm.put(key.substring("maxSize.".length()), parseInt(properties, key, Integer.MAX_VALUE));
+            }
+        }
+        this.maxSizes = Collections.unmodifiableMap(maxSizesByAlgorithm);
+
+        String tailList = properties.getProperty("unsortedTails");
+        this.unsortedTails = tailList == null ? Collections.<Integer>emptyList() : parseTails(tailList);
+        this.exclusive = Boolean.parseBoolean(properties.getProperty("exclusive", "false").trim());
+
+        Map<String, String> baselines = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith("speedup.")) {
+                String baseline = properties.getProperty(key).trim();
+                if (!algorithms.contains(baseline)) {
+                    throw new IllegalArgumentException(key + " refers to " + baseline + ", which is not measured");
+                }
+                baselines.put(key.substring("speedup.".length()), baseline);
+            }
+        }
+        this.speedupBaselines = Collections.unmodifiableMap(baselines);
+    }
+
+    /**
+     * Reads an experiment from a properties file.
+     *
+     * @param configFile the properties file.
+     *
+     * @return the {@link ExperimentMatrix} of the file.
+     * @throws IOException An exception is thrown where is there is a problem with reading of files.
+     */
+    public static ExperimentMatrix load(Path configFile) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(configFile, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        String fileName = configFile.getFileName().toString();
+        int extension = fileName.lastIndexOf('.');
+        try {
+            return new ExperimentMatrix(extension > 0 ? fileName.substring(0, extension) : fileName, properties);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(configFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static String getRequired(Properties properties, String key) {
+        String value = properties.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Missing " + key);
+        }
+        return value;
+    }
+
+    private static int parseInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    // Split a list on the commas outside parentheses, which separate the arguments of an algorithm
+    private static List<String> split(String list) {
+        List<String> values = new ArrayList<>();
+        int depth = 0;
+        int start = 0;
+        for (int i = 0; i <= list.length(); i++) {
+            char c = i < list.length() ? list.charAt(i) : ',';
+            if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == ',' && depth == 0) {
+                String value = list.substring(start, i).trim();
+                if (!value.isEmpty()) {
+                    values.add(value);
+                }
+                start = i + 1;
+            }
+        }
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("Empty list: " + list);
+        }
+        return values;
+    }
+
+    private static <E extends Enum<E>> List<E> parseEnums(Class<E> enumClass, String list) {
+        List<E> values = new ArrayList<>();
+        for (String value : split(list)) {
+            values.add(Enum.valueOf(enumClass, value));
+        }
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Parses a list of sizes, each either a number or a geometric range {@code first..last*factor}, which holds
+     * {@code first}, {@code first * factor} and so on up to {@code last}.
+     *
+     * @param list the sizes separated by commas.
+     *
+     * @return the sizes.
+     */
+    static List<Integer> parseSizes(String list) {
+        List<Integer> sizes = new ArrayList<>();
+        for (String value : split(list)) {
+            int range = value.indexOf("..");
+            if (range < 0) {
+                sizes.add(Integer.parseInt(value));
+                continue;
+            }
+            int factorIndex = value.indexOf('*', range);
+            if (factorIndex < 0) {
+                throw new IllegalArgumentException("Range " + value + " has no factor, e.g. 1000..100000000*10");
+            }
+            long first = Long.parseLong(value.substring(0, range).trim());
+            long last = Long.parseLong(value.substring(range + 2, factorIndex).trim());
+            long factor = Long.parseLong(value.substring(factorIndex + 1).trim());
+            if (first < 1 || factor < 2 || last > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Range " + value + " must start at 1 or more, grow by 2 or more "
+                        + "and end below " + Integer.MAX_VALUE);
+            }
+            for (long size = first; size <= last; size *= factor) {
+                sizes.add((int) size);
+            }
+        }
+        for (int size : sizes) {
+            if (size < 1) {
+                throw new IllegalArgumentException("Sizes must be positive: " + size);
+            }
+        }
+        return Collections.unmodifiableList(sizes);
+    }
+
+    private static List<Integer> parseTails(String list) {
+        List<Integer> tails = new ArrayList<>();
+        for (String value : split(list)) {
+            int tail = Integer.parseInt(value);
+            if (tail < 0) {
+                throw new IllegalArgumentException("Unsorted tails must not be negative: " + tail);
+            }
+            tails.add(tail);
+        }
+        return Collections.unmodifiableList(tails);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Dataset> getDatasets() {
+        return datasets;
+    }
+
+    public List<Integer> getSizes() {
+        return sizes;
+    }
+
+    public List<String> getAlgorithms() {
+        return algorithms;
+    }
+
+    public List<Metric> getMetrics() {
+        return metrics;
+    }
+
+    public List<XAxis> getXAxes() {
+        return xAxes;
+    }
+
+    /**
+     * Gets the lengths of the unsorted tails of the nearly sorted inputs.
+     *
+     * @return the tail lengths, empty when the inputs are not presorted.
+     */
+    public List<Integer> getUnsortedTails() {
+        return unsortedTails;
+    }
+
+    /**
+     * Gets whether every cell of the experiment is measured alone.
+     *
+     * @return true if every cell is exclusive.
+     */
+    public boolean isExclusive() {
+        return exclusive;
+    }
+
+    /**
+     * Gets the algorithm the run times of an algorithm are compared with to print its speedup.
+     *
+     * @param algorithm the algorithm, possibly with the arguments of its constructor.
+     *
+     * @return the baseline algorithm, or null when no speedup is printed for the algorithm.
+     */
+    public String getSpeedupBaseline(String algorithm) {
+        return speedupBaselines.get(SortRegistry.getClassName(algorithm));
+    }
+
+    /**
+     * Checks whether an algorithm is measured at an input size, which is not the case above its maximum size.
+     *
+     * @param algorithm the name of the sorting technique.
+     * @param sizeOfInput the input size.
+     *
+     * @return whether the algorithm is measured.
+     */
+    public boolean isMeasured(String algorithm, int sizeOfInput) {
+        return sizeOfInput <= maxSizes.getOrDefault(algorithm, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Checks whether a metric of an algorithm is measured at an input size, which is neither the case above its
+     * maximum size nor for the operation counts of a sorting technique that does not count them.
+     *
+     * @param algorithm the name of the sorting technique.
+     * @param sizeOfInput the input size.
+     * @param metric the {@link Metric}.
+     *
+     * @return whether the metric is measured.
+     */
+    public boolean isMeasured(String algorithm, int sizeOfInput, Metric metric) {
+        return isMeasured(algorithm, sizeOfInput) && (!metric.isOperationCount() || SortRegistry.isCounted(algorithm));
+    }
+
+    /**
+     * Gets the number of cells of the experiment, without creating them.
+     *
+     * @return the number of cells.
+     */
+    public long getCellCount() {
+        long cells = 0;
+        for (int size : sizes) {
+            for (String algorithm : algorithms) {
+                for (Metric metric : metrics) {
+                    if (isMeasured(algorithm, size, metric)) {
+                        cells++;
+                    }
+                }
+            }
+        }
+        return cells * datasets.size() * Math.max(1, unsortedTails.size());
+    }
+
+    /**
+     * Creates the {@link TimingEngine} with the warmup and repetitions of the experiment.
+     *
+     * @return the timing engine.
+     */
+    public TimingEngine createTimingEngine() {
+        return new TimingEngine(warmupIterations, measuredIterations, TimingEngine.DEFAULT_OUTLIER_FACTOR);
+    }
+
+    /**
+     * Creates the {@link AllocationProfiler} with the memory warmup and repetitions of the experiment.
+     *
+     * @return the allocation profiler.
+     */
+    public AllocationProfiler createAllocationProfiler() {
+        return new AllocationProfiler(memoryWarmupIterations, memoryMeasuredIterations);
+    }
+
+    @Override
+    public Iterator<ExperimentCell> iterator() {
+        return new CellIterator();
+    }
+
+    /**
+     * Walks the cross product of the experiment one cell at a time.
+     */
+    private class CellIterator implements Iterator<ExperimentCell> {
+
+        private int dataset;
+        private int size;
+        private int unsortedTail;
+        private int algorithm;
+        private int metric;
+        private int[] input;
+
+        CellIterator() {
+            skipUnmeasured();
+        }
+
+        // Move forward to the next measured cell, or past the last dataset
+        private void skipUnmeasured() {
+            while (dataset < datasets.size() && !(metric < metrics.size() && algorithm < algorithms.size()
+                    && isMeasured(algorithms.get(algorithm), sizes.get(size), metrics.get(metric)))) {
+                if (++metric < metrics.size() && algorithm < algorithms.size()) {
+                    continue;
+                }
+                metric = 0;
+                if (++algorithm < algorithms.size()) {
+                    continue;
+                }
+                algorithm = 0;
+                input = null;
+                if (++unsortedTail < unsortedTails.size()) {
+                    continue;
+                }
+                unsortedTail = 0;
+                if (++size < sizes.size()) {
+                    continue;
+                }
+                size = 0;
+                dataset++;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return dataset < datasets.size();
+        }
+
+        @Override
+        public ExperimentCell next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Dataset currentDataset = datasets.get(dataset);
+            if (input == null) {
+                try {
+                    input = currentDataset.getData(sizes.get(size));
+                } catch (Exception e) {
+                    throw new IllegalStateException("Cannot get " + sizes.get(size) + " numbers of " + currentDataset, e);
+                }
+                if (!unsortedTails.isEmpty()) {
+                    Arrays.sort(input, 0, Math.max(0, input.length - unsortedTails.get(unsortedTail)));
+                }
+            }
+            String sortingType = algorithms.get(algorithm);
+            ExperimentCell cell = new ExperimentCell(currentDataset, metrics.get(metric), sortingType,
+                    SortRegistry.create(sortingType), input, exclusive);
+
+            metric++;
+            skipUnmeasured();
+            return cell;
+        }
+    }
+}
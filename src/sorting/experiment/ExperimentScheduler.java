@@ -0,0 +1,181 @@
+package sorting.experiment;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Runs the cells of an experiment on a fixed number of threads, one measurement per core at most.
+ *
+ * The Java platform cannot pin threads to cores, so the isolation is approximated: the pool is bounded to one
+ * thread less than the number of processors by default, which leaves a core to the JIT compiler and the garbage
+ * collector, and every thread measures one cell at a time. The exclusive cells are measured on the calling thread
+ * after the other cells of their experiment, holding the write side of a fair read-write lock whose read side every
+ * other cell holds, so that the sorts using several cores, the process wide memory readings and the large inputs,
+ * which would share the last-level cache and the memory bandwidth, get the machine to themselves even when several
+ * experiments share the scheduler.
+ *
+ * Only small inputs are measured side by side, and the calling thread does no work of its own while they are: the
+ * inputs are generated and the results consumed between the measurements. {@link SchedulerCheck} compares the run
+ * times measured this way with the ones of a sequential run.
+ */
+public class ExperimentScheduler {
+
+    /**
+     * The largest number of cells measured in one batch of {@link #stream(Iterator, CellMeasurement, Consumer)}.
+     */
+    private static final int MAX_BATCH_SIZE = 1024;
+
+    private final int parallelism;
+    private final ExecutorService executorService;
+    private final ReadWriteLock isolation = new ReentrantReadWriteLock(true);
+
+    /**
+     * Creates a scheduler with one thread less than the number of processors, and at least one.
+     */
+    public ExperimentScheduler() {
+        this(getDefaultParallelism());
+    }
+
+    /**
+     * Gets the parallelism of a scheduler created without one, one thread less than the number of processors.
+     *
+     * @return the default parallelism, at least one.
+     */
+    public static int getDefaultParallelism() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param parallelism the number of cells measured at the same time.
+     */
+    public ExperimentScheduler(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executorService = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "experiment-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Measures the given cells, the exclusive ones after all the others. Several threads may run experiments on
+     * the same scheduler at once, none of them being a thread of the scheduler.
+     *
+     * @param cells the {@link ExperimentCell}s to measure.
+     * @param measurement the {@link CellMeasurement} of a cell.
+     *
+     * @return the measured value of every cell, in the order of the cells.
+     */
+    public int[] run(List<ExperimentCell> cells, CellMeasurement measurement) {
+        int[] values = new int[cells.size()];
+        // the exclusive cells have no future
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (ExperimentCell cell : cells) {
+            futures.add(cell.isExclusive() ? null : executorService.submit(() -> measure(cell, measurement, isolation.readLock())));
+        }
+
+        try {
+            for (int i = 0; i < cells.size(); i++) {
+                if (futures.get(i) != null) {
+                    values[i] = futures.get(i).get();
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while measuring the experiment", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to measure the experiment", e.getCause());
+        }
+
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.get(i).isExclusive()) {
+                values[i] = measure(cells.get(i), measurement, isolation.writeLock());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Measures the cells of an iterator as they are created, handing every result to a consumer once it is
+     * measured, so that neither the cells nor the results of an experiment are ever all held at once. The cells are
+     * measured in batches of consecutive cells sharing their input: the next batch is only taken from the iterator,
+     * which generates its input, once every cell of the previous one is measured, and the results of a batch are
+     * consumed on the calling thread, in the order of its cells, before the next batch is measured. No measurement
+     * is therefore in flight while an input is generated or a result consumed.
+     *
+     * @param cells the {@link Iterator} of the {@link ExperimentCell}s to measure.
+     * @param measurement the {@link CellMeasurement} of a cell.
+     * @param consumer the {@link Consumer} of every {@link CellResult}.
+     */
+    public void stream(Iterator<ExperimentCell> cells, CellMeasurement measurement, Consumer<CellResult> consumer) {
+        ExperimentCell next = cells.hasNext() ? cells.next() : null;
+        while (next != null) {
+            List<ExperimentCell> batch = new ArrayList<>();
+            int[] input = next.getInput();
+            while (next != null && next.getInput() == input) {
+                batch.add(next);
+                next = null;
+                if (batch.size() < MAX_BATCH_SIZE && cells.hasNext()) {
+                    next = cells.next();
+                }
+            }
+
+            int[] values = run(batch, measurement);
+            for (int i = 0; i < batch.size(); i++) {
+                consumer.accept(new CellResult(batch.get(i), values[i]));
+            }
+            if (next == null && cells.hasNext()) {
+                next = cells.next();
+            }
+        }
+    }
+
+    private static int measure(ExperimentCell cell, CellMeasurement measurement, Lock lock) {
+        lock.lock();
+        try {
+            return measurement.measure(cell);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void cancelAll(List<Future<Integer>> futures) {
+        for (Future<Integer> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Stops the threads of the scheduler once their cells are done.
+     */
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
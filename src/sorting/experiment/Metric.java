@@ -0,0 +1,58 @@
+package sorting.experiment;
+
+/**
+ * The quantities measured for every sorting technique. The operation counts are only measured when the sorts count
+ * them, see {@link sorting.types.SortCounters}.
+ */
+public enum Metric {
+
+    RUN_TIME("Run Time", "Run Time(in microseconds)"),
+
+    MEMORY_USAGE("Memory Usage", "Memory Allocated(in KiloBytes)"),
+
+    COMPARISONS("Comparisons", "Comparisons of elements", true),
+
+    MOVES("Moves", "Elements moved", true),
+
+    RECURSION_DEPTH("Recursion Depth", "Maximum recursion depth", true),
+
+    AUXILIARY_MEMORY("Auxiliary Memory", "Auxiliary memory(in KiloBytes)", true),
+
+    MERGES("Merges", "Merges of sorted runs", true);
+
+    private final String title;
+    private final String label;
+    private final boolean operationCount;
+
+    Metric(String title, String label) {
+        this(title, label, false);
+    }
+
+    Metric(String title, String label, boolean operationCount) {
+        this.title = title;
+        this.label = label;
+        this.operationCount = operationCount;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Gets the label of the axis of the metric in the charts.
+     *
+     * @return the axis label.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Gets whether the metric is counted by the sorts themselves rather than measured from outside.
+     *
+     * @return true for the operation counts of {@link sorting.types.SortCounters}.
+     */
+    public boolean isOperationCount() {
+        return operationCount;
+    }
+}
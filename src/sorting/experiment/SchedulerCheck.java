@@ -0,0 +1,145 @@
+package sorting.experiment;
+
+import sorting.measurement.InputPool;
+import sorting.measurement.TimingEngine;
+import sorting.measurement.TimingResult;
+import sorting.types.ParallelSort;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checks that measuring the cells of an experiment side by side on the {@link ExperimentScheduler} does not skew
+ * their run times. Every {@link Metric#RUN_TIME} cell of the matrix that the scheduler measures side by side, the
+ * exclusive ones being measured alone either way, is measured once by a sequential scheduler and once by a scheduler
+ * with several threads, after an unrecorded sequential run compiling the sorts, so that neither run pays for the
+ * JIT compiler, and the medians of both runs must agree within a tolerance. Cells whose sequential median
+ * is below {@link #MINIMUM_MEDIAN_NANOS} are printed but not judged, as the timer resolution dominates them.
+ */
+public class SchedulerCheck {
+
+    /**
+     * The relative difference between the parallel and the sequential median above which a cell is skewed.
+     */
+    public static final double DEFAULT_TOLERANCE = 0.10;
+
+    /**
+     * The sequential median below which a cell is not judged.
+     */
+    public static final long MINIMUM_MEDIAN_NANOS = 20000;
+
+    /**
+     * The main method checking experiment matrices. The arguments are
+     * {@code [--threads <count>] [--tolerance <fraction>] <matrix>...}, the threads being by default the ones of the
+     * default {@link ExperimentScheduler}. The process exits with the status 1 when a cell is skewed.
+     *
+     * @param args stores all the command line arguments.
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    public static void main(String[] args) throws Exception {
+        int threads = ExperimentScheduler.getDefaultParallelism();
+        double tolerance = DEFAULT_TOLERANCE;
+        List<String> configFiles = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads") || args[i].equals("--tolerance")) {
+                if (i + 1 == args.length) {
+                    throw new IllegalArgumentException(args[i] + " requires a value");
+                }
+                if (args[i].equals("--threads")) {
+                    threads = Integer.parseInt(args[++i]);
+                } else {
+                    tolerance = Double.parseDouble(args[++i]);
+                }
+            } else {
+                configFiles.add(args[i]);
+            }
+        }
+        if (configFiles.isEmpty()) {
+            throw new IllegalArgumentException("No experiment matrix to check");
+        }
+
+        int skewed = 0;
+        for (String configFile : configFiles) {
+            skewed += check(ExperimentMatrix.load(Paths.get(configFile)), threads, tolerance);
+        }
+        System.out.println(skewed + " skewed cells");
+        if (skewed > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Measures the cells of a matrix sequentially and in parallel, and prints the medians of both runs.
+     *
+     * @param matrix the {@link ExperimentMatrix} to check.
+     * @param threads the threads of the parallel run.
+     * @param tolerance the relative difference of the medians above which a cell is skewed, 0.1 for 10%.
+     *
+     * @return the number of skewed cells.
+     */
+    public static int check(ExperimentMatrix matrix, int threads, double tolerance) {
+        List<ExperimentCell> cells = new ArrayList<>();
+        Map<ExperimentCell, TimingResult> sequential;
+        Map<ExperimentCell, TimingResult> parallel;
+        try {
+            for (ExperimentCell cell : matrix) {
+                if (cell.getMetric() == Metric.RUN_TIME && !cell.isExclusive()) {
+                    cells.add(cell);
+                } else {
+                    close(cell);
+                }
+            }
+            TimingEngine timingEngine = matrix.createTimingEngine();
+            measure(cells, timingEngine, 1);
+            sequential = measure(cells, timingEngine, 1);
+            parallel = measure(cells, timingEngine, threads);
+        } finally {
+            // the cells are measured in every run, so their sorts are only closed once all of them are done
+            for (ExperimentCell cell : cells) {
+                close(cell);
+            }
+        }
+
+        int skewed = 0;
+        System.out.println(String.format("Experiment %s: sequential vs %d threads", matrix.getName(), threads));
+        for (ExperimentCell cell : cells) {
+            long sequentialMedian = sequential.get(cell).getMedian();
+            long parallelMedian = parallel.get(cell).getMedian();
+            double difference = (double) (parallelMedian - sequentialMedian) / Math.max(1, sequentialMedian);
+            boolean judged = sequentialMedian >= MINIMUM_MEDIAN_NANOS;
+            boolean cellSkewed = judged && Math.abs(difference) > tolerance;
+            if (cellSkewed) {
+                skewed++;
+            }
+            System.out.println(String.format("%-50s %12.1f -> %12.1f us  %+7.1f%%%s", cell,
+                    sequentialMedian / 1000.0, parallelMedian / 1000.0, difference * 100,
+                    cellSkewed ? "  SKEWED" : judged ? "" : "  (too short to judge)"));
+        }
+        return skewed;
+    }
+
+    // Every cell has its own sort, a configured parallel sort owning its threads
+    private static void close(ExperimentCell cell) {
+        if (cell.getSort() instanceof ParallelSort) {
+            ((ParallelSort) cell.getSort()).close();
+        }
+    }
+
+    private static Map<ExperimentCell, TimingResult> measure(List<ExperimentCell> cells, TimingEngine timingEngine,
+                                                             int threads) {
+        Map<ExperimentCell, TimingResult> results = new ConcurrentHashMap<>();
+        ExperimentScheduler scheduler = new ExperimentScheduler(threads);
+        try {
+            scheduler.run(cells, cell -> {
+                results.put(cell, timingEngine.measure(new InputPool(cell.getInput()), cell.getSort()));
+                return 0;
+            });
+        } finally {
+            scheduler.shutdown();
+        }
+        return results;
+    }
+}
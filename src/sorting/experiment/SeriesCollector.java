@@ -0,0 +1,109 @@
+package sorting.experiment;
+
+import sorting.Dataset;
+import sorting.measurement.InversionCounter;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Collects the streamed {@link CellResult}s of an experiment into the series of its charts: one chart per dataset,
+ * metric and {@link XAxis}, with one series per sorting technique.
+ */
+public class SeriesCollector implements Consumer<CellResult> {
+
+    private final List<XAxis> xAxes;
+    private final Map<String, Chart> charts = new LinkedHashMap<>();
+    private int[] countedInput;
+    private long countedInversions;
+
+    /**
+     * Creates a collector.
+     *
+     * @param xAxes the {@link XAxis} of every chart of a dataset and metric.
+     */
+    public SeriesCollector(List<XAxis> xAxes) {
+        this.xAxes = xAxes;
+    }
+
+    @Override
+    public void accept(CellResult result) {
+        ExperimentCell cell = result.getCell();
+        for (XAxis xAxis : xAxes) {
+            Number x = cell.getSizeOfInput();
+            if (xAxis == XAxis.DEGREE_OF_SORTEDNESS) {
+                // the cells sharing an input come one after the other, count its inversions once
+                if (cell.getInput() != countedInput) {
+                    countedInput = cell.getInput();
+                    countedInversions = InversionCounter.countInversions(countedInput);
+                }
+                x = countedInversions;
+            }
+            charts.computeIfAbsent(cell.getDataset() + "#" + cell.getMetric() + "#" + xAxis,
+                    key -> new Chart(cell.getDataset(), cell.getMetric(), xAxis))
+                    .add(cell.getSortingType(), x, result.getValue());
+        }
+    }
+
+    /**
+     * Gets the charts, in the order their first result came in.
+     *
+     * @return the {@link Chart}s.
+     */
+    public Collection<Chart> getCharts() {
+        return charts.values();
+    }
+
+    /**
+     * The data points of one chart.
+     */
+    public static class Chart {
+
+        private final Dataset dataset;
+        private final Metric metric;
+        private final XAxis xAxis;
+        private final Map<String, List<Number>> xAxisData = new LinkedHashMap<>();
+        private final Map<String, List<Integer>> data = new LinkedHashMap<>();
+
+        Chart(Dataset dataset, Metric metric, XAxis xAxis) {
+            this.dataset = dataset;
+            this.metric = metric;
+            this.xAxis = xAxis;
+        }
+
+        void add(String sortingType, Number x, int y) {
+            xAxisData.computeIfAbsent(sortingType, key -> new ArrayList<>()).add(x);
+            data.computeIfAbsent(sortingType, key -> new ArrayList<>()).add(y);
+        }
+
+        public Dataset getDataset() {
+            return dataset;
+        }
+
+        public Metric getMetric() {
+            return metric;
+        }
+
+        public XAxis getXAxis() {
+            return xAxis;
+        }
+
+        /**
+         * Gets the x values of every series, as the series may have been measured at different input sizes.
+         *
+         * @return the {@link Map} of sorting type to its x values.
+         */
+        public Map<String, List<Number>> getXAxisData() {
+            return xAxisData;
+        }
+
+        /**
+         * Gets the y values of every series, matching the x values.
+         *
+         * @return the {@link Map} of sorting type to its y values.
+         */
+        public Map<String, List<Integer>> getData() {
+            return data;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package sorting.experiment;
+
+import sorting.types.Sort;
+import sorting.types.UncountedSort;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * The sorting techniques discovered through {@link ServiceLoader}, by their simple class name. A {@link Sort} is
+ * made available to the experiments by listing its class in {@code META-INF/services/sorting.types.Sort}; it must
+ * have a public constructor without parameters. A sorting technique with a public constructor taking {@code int}
+ * parameters can also be configured by giving them after its name, such as {@code ParallelMergeSort(2, 8192)}.
+ */
+public final class SortRegistry {
+
+    private static final Map<String, Class<? extends Sort>> SORTS = discover();
+
+    private SortRegistry() {
+    }
+
+    private static Map<String, Class<? extends Sort>> discover() {
+        Map<String, Class<? extends Sort>> sorts = new LinkedHashMap<>();
+        for (Sort sort : ServiceLoader.load(Sort.class)) {
+            sorts.put(sort.getClass().getSimpleName(), sort.getClass());
+        }
+        return Collections.unmodifiableMap(sorts);
+    }
+
+    /**
+     * Gets the names of all the discovered sorting techniques, in the order of the service files.
+     *
+     * @return the names of the sorting techniques.
+     */
+    public static Set<String> getSortingTypes() {
+        return SORTS.keySet();
+    }
+
+    /**
+     * Gets the simple class name of a sorting technique, without the arguments of its constructor.
+     *
+     * @param sortingType the simple class name of the sorting technique, possibly followed by its arguments.
+     *
+     * @return the simple class name.
+     */
+    public static String getClassName(String sortingType) {
+        int arguments = sortingType.indexOf('(');
+        return (arguments < 0 ? sortingType : sortingType.substring(0, arguments)).trim();
+    }
+
+    /**
+     * Checks whether a sorting technique counts its operations, which an {@link UncountedSort} does not.
+     *
+     * @param sortingType the simple class name of the sorting technique, possibly followed by its arguments.
+     *
+     * @return whether the operations of the sorting technique are counted, true for an unknown one.
+     */
+    public static boolean isCounted(String sortingType) {
+        Class<? extends Sort> sortClass = SORTS.get(getClassName(sortingType));
+        return sortClass == null || !UncountedSort.class.isAssignableFrom(sortClass);
+    }
+
+    /**
+     * Creates a new instance of a sorting technique, so that no state is shared between two measurements.
+     *
+     * @param sortingType the simple class name of the sorting technique, possibly followed by the {@code int}
+     * arguments of its constructor in parentheses.
+     *
+     * @return the new {@link Sort}.
+     */
+    public static Sort create(String sortingType) {
+        String className = getClassName(sortingType);
+        Class<? extends Sort> sortClass = SORTS.get(className);
+        if (sortClass == null) {
+            throw new IllegalArgumentException("Unknown sorting type " + className + ", the known ones are "
+                    + SORTS.keySet());
+        }
+        Object[] arguments = parseArguments(sortingType);
+        for (Constructor<?> constructor : sortClass.getConstructors()) {
+            if (takesInts(constructor, arguments.length)) {
+                try {
+                    return sortClass.cast(constructor.newInstance(arguments));
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof IllegalArgumentException) {
+                        throw new IllegalArgumentException(sortingType + ": " + e.getCause().getMessage(), e.getCause());
+                    }
+                    throw new IllegalStateException("Cannot create " + sortingType, e.getCause());
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("Cannot create " + sortingType, e);
+                }
+            }
+        }
+        throw new IllegalArgumentException(sortClass.getName() + " has no public constructor taking "
+                + arguments.length + " int parameters");
+    }
+
+    private static Object[] parseArguments(String sortingType) {
+        int open = sortingType.indexOf('(');
+        if (open < 0) {
+            return new Object[0];
+        }
+        if (!sortingType.trim().endsWith(")")) {
+            throw new IllegalArgumentException("Missing ) in " + sortingType);
+        }
+        String list = sortingType.substring(open + 1, sortingType.lastIndexOf(')')).trim();
+        if (list.isEmpty()) {
+            return new Object[0];
+        }
+        String[] values = list.split(",");
+        Object[] arguments = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arguments[i] = Integer.parseInt(values[i].trim());
+        }
+        return arguments;
+    }
+
+    private static boolean takesInts(Constructor<?> constructor, int parameterCount) {
+        if (constructor.getParameterTypes().length != parameterCount) {
+            return false;
+        }
+        for (Class<?> parameterType : constructor.getParameterTypes()) {
+            if (parameterType != int.class) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package sorting.experiment;
+
+/**
+ * The quantities the measurements of an experiment can be charted against.
+ */
+public enum XAxis {
+
+    DATA_SIZE("Data Size"),
+
+    DEGREE_OF_SORTEDNESS("Degree Of Sortedness");
+
+    private final String label;
+
+    XAxis(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
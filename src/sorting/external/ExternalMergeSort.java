@@ -0,0 +1,245 @@
+package sorting.external;
+
+import sorting.types.QuickSort;
+import sorting.types.Sort;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+
+/**
+ * Implementation of External Merge Sort, for inputs that do not fit in memory.
+ *
+ * The input is read in chunks of at most the memory budget, every chunk is sorted with a {@link Sort} and spilled
+ * to a temporary file as a sorted run of big endian {@code int} numbers. The runs are then merged, up to the fan-in
+ * at a time, by a k-way merge over a binary min-heap of the run heads, until one pass can merge the remaining runs
+ * into the output. Files are read and written through buffered {@link java.nio.channels.FileChannel}s.
+ *
+ * The memory budget bounds the chunk array only: the chunk {@link Sort} may need auxiliary space of its own, and a
+ * merge holds one I/O buffer per run merged plus one for its output.
+ */
+public class ExternalMergeSort {
+
+    public static final long DEFAULT_MEMORY_BUDGET_BYTES = 64L << 20;
+    public static final int DEFAULT_FAN_IN = 16;
+    public static final int DEFAULT_BUFFER_SIZE = 64 << 10;
+
+    private final Sort chunkSort;
+    private final int chunkSize;
+    private final int fanIn;
+    private final Path tempDirectory;
+    private final int bufferSize;
+
+    /**
+     * Creates an external merge sort with {@link QuickSort}, which sorts the chunks in place, the default memory
+     * budget and fan-in, and the default temporary directory.
+     */
+    public ExternalMergeSort() {
+        this(new QuickSort(), DEFAULT_MEMORY_BUDGET_BYTES, DEFAULT_FAN_IN,
+                Paths.get(System.getProperty("java.io.tmpdir")), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates an external merge sort.
+     *
+     * @param chunkSort the {@link Sort} to sort every chunk with.
+     * @param memoryBudgetBytes the size in bytes of the largest chunk sorted in memory.
+     * @param fanIn the largest number of runs merged at once.
+     * @param tempDirectory the directory of the temporary run files.
+     * @param bufferSize the size in bytes of the buffer of every file read or written.
+     */
+    public ExternalMergeSort(Sort chunkSort, long memoryBudgetBytes, int fanIn, Path tempDirectory, int bufferSize) {
+        if (memoryBudgetBytes < Integer.BYTES) {
+            throw new IllegalArgumentException("Memory budget must hold at least one number: " + memoryBudgetBytes);
+        }
+        if (fanIn < 2) {
+            throw new IllegalArgumentException("At least two runs must be merged at once: " + fanIn);
+        }
+        if (bufferSize < Integer.BYTES) {
+            throw new IllegalArgumentException("Buffer must hold at least one number: " + bufferSize);
+        }
+        this.chunkSort = chunkSort;
+        this.chunkSize = (int) Math.min(memoryBudgetBytes / Integer.BYTES, Integer.MAX_VALUE - 8);
+        this.fanIn = fanIn;
+        this.tempDirectory = tempDirectory;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Sorts a file of big endian {@code int} numbers into another one.
+     *
+     * @param input the file to sort.
+     * @param output the file to write the sorted numbers to, replaced if it exists.
+     *
+     * @return the {@link ExternalSortResult} of the sort.
+     * @throws IOException An exception is thrown where is there is a problem with reading or writing of files.
+     */
+    public ExternalSortResult sort(Path input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try (IntFileReader reader = new IntFileReader(input, bufferSize)) {
+            int[] chunk = new int[(int) Math.min(chunkSize, Files.size(input) / Integer.BYTES)];
+            long bytesSpilled = 0;
+            long elements = 0;
+            int count;
+            while (chunk.length > 0 && (count = reader.read(chunk)) > 0) {
+                bytesSpilled += spill(chunk, count, runs);
+                elements += count;
+            }
+            return merge(runs, output, elements, bytesSpilled);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    /**
+     * Sorts the numbers of an iterator into a file, without ever holding more than one chunk of them.
+     *
+     * @param input the numbers to sort.
+     * @param output the file to write the sorted numbers to, replaced if it exists.
+     *
+     * @return the {@link ExternalSortResult} of the sort.
+     * @throws IOException An exception is thrown where is there is a problem with reading or writing of files.
+     */
+    public ExternalSortResult sort(PrimitiveIterator.OfInt input, Path output) throws IOException {
+        List<Path> runs = new ArrayList<>();
+        try {
+            int[] chunk = new int[Math.min(chunkSize, DEFAULT_BUFFER_SIZE)];
+            long bytesSpilled = 0;
+            long elements = 0;
+            while (input.hasNext()) {
+                int count = 0;
+                while (count < chunkSize && input.hasNext()) {
+                    if (count == chunk.length) {
+                        chunk = Arrays.copyOf(chunk, (int) Math.min(chunkSize, 2L * count));
+                    }
+                    chunk[count++] = input.nextInt();
+                }
+                bytesSpilled += spill(chunk, count, runs);
+                elements += count;
+            }
+            return merge(runs, output, elements, bytesSpilled);
+        } finally {
+            deleteAll(runs);
+        }
+    }
+
+    // Sort the first count numbers of the chunk and write them to a new run, returning the bytes written
+    private long spill(int[] chunk, int count, List<Path> runs) throws IOException {
+        int[] sorted = chunkSort.sort(count == chunk.length ? chunk : Arrays.copyOf(chunk, count));
+        Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+        runs.add(run);
+        try (IntFileWriter writer = new IntFileWriter(run, bufferSize)) {
+            writer.write(sorted, count);
+            return count * (long) Integer.BYTES;
+        }
+    }
+
+    // Merge the runs fanIn at a time until one pass can write them all to the output
+    private ExternalSortResult merge(List<Path> runs, Path output, long elements, long bytesSpilled)
+            throws IOException {
+        int initialRuns = runs.size();
+        if (runs.isEmpty()) {
+            Files.write(output, new byte[0]);
+            return new ExternalSortResult(elements, initialRuns, 0, bytesSpilled);
+        }
+        if (runs.size() == 1) {
+            Files.move(runs.remove(0), output, StandardCopyOption.REPLACE_EXISTING);
+            return new ExternalSortResult(elements, initialRuns, 0, bytesSpilled);
+        }
+
+        int mergePasses = 0;
+        while (runs.size() > fanIn) {
+            List<Path> merged = new ArrayList<>();
+            try {
+                for (int first = 0; first < runs.size(); first += fanIn) {
+                    List<Path> group = runs.subList(first, Math.min(first + fanIn, runs.size()));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    Path run = Files.createTempFile(tempDirectory, "run", ".bin");
+                    merged.add(run);
+                    bytesSpilled += kWayMerge(group, run);
+                    deleteAll(group);
+                }
+            } catch (IOException | RuntimeException e) {
+                deleteAll(merged);
+                throw e;
+            }
+            runs.clear();
+            runs.addAll(merged);
+            mergePasses++;
+        }
+        kWayMerge(runs, output);
+        return new ExternalSortResult(elements, initialRuns, mergePasses + 1, bytesSpilled);
+    }
+
+    // Merge the sorted runs into the destination, returning the bytes written
+    private long kWayMerge(List<Path> runs, Path destination) throws IOException {
+        IntFileReader[] readers = new IntFileReader[runs.size()];
+        IntFileWriter writer = new IntFileWriter(destination, bufferSize);
+        try {
+            // A min heap of the indexes of the readers, ordered by their current number
+            int[] heap = new int[readers.length];
+            int heapSize = 0;
+            for (int i = 0; i < readers.length; i++) {
+                readers[i] = new IntFileReader(runs.get(i), bufferSize);
+                if (readers[i].advance()) {
+                    heap[heapSize++] = i;
+                }
+            }
+            for (int i = heapSize / 2 - 1; i >= 0; i--) {
+                siftDown(heap, heapSize, i, readers);
+            }
+
+            while (heapSize > 0) {
+                IntFileReader smallest = readers[heap[0]];
+                writer.write(smallest.current());
+                if (!smallest.advance()) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, readers);
+            }
+        } finally {
+            try {
+                writer.close();
+            } finally {
+                for (IntFileReader reader : readers) {
+                    if (reader != null) {
+                        reader.close();
+                    }
+                }
+            }
+        }
+        return writer.getBytesWritten();
+    }
+
+    private static void siftDown(int[] heap, int heapSize, int root, IntFileReader[] readers) {
+        int reader = heap[root];
+        int value = readers[reader].current();
+        int child;
+        while ((child = 2 * root + 1) < heapSize) {
+            if (child + 1 < heapSize && readers[heap[child + 1]].current() < readers[heap[child]].current()) {
+                child++;
+            }
+            if (readers[heap[child]].current() >= value) {
+                break;
+            }
+            heap[root] = heap[child];
+            root = child;
+        }
+        heap[root] = reader;
+    }
+
+    private static void deleteAll(List<Path> files) throws IOException {
+        for (Path file : files) {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package sorting.external;
+
+/**
+ * The statistics of one run of {@link ExternalMergeSort}.
+ */
+public class ExternalSortResult {
+
+    private final long elements;
+    private final int initialRuns;
+    private final int mergePasses;
+    private final long bytesSpilled;
+
+    /**
+     * Creates the result.
+     *
+     * @param elements the number of numbers sorted.
+     * @param initialRuns the number of sorted runs the input was split into.
+     * @param mergePasses the number of passes merging the runs, the last one into the output.
+     * @param bytesSpilled the number of bytes written to temporary files.
+     */
+    public ExternalSortResult(long elements, int initialRuns, int mergePasses, long bytesSpilled) {
+        this.elements = elements;
+        this.initialRuns = initialRuns;
+        this.mergePasses = mergePasses;
+        this.bytesSpilled = bytesSpilled;
+    }
+
+    public long getElements() {
+        return elements;
+    }
+
+    public int getInitialRuns() {
+        return initialRuns;
+    }
+
+    public int getMergePasses() {
+        return mergePasses;
+    }
+
+    /**
+     * Gets the number of bytes written to temporary files: every initial run and every intermediate merge
+     * pass, but not the output.
+     *
+     * @return the bytes spilled.
+     */
+    public long getBytesSpilled() {
+        return bytesSpilled;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("elements=%d initialRuns=%d mergePasses=%d spilled=%dB",
+                elements, initialRuns, mergePasses, bytesSpilled);
+    }
+}
@@ -0,0 +1,80 @@
+package sorting.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the big endian {@code int} numbers of a file through a buffered {@link FileChannel}.
+ */
+class IntFileReader implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private boolean endOfFile;
+    private int current;
+
+    IntFileReader(Path file, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+    }
+
+    // Make at least one whole number available in the buffer, unless the file is over
+    private boolean fill() throws IOException {
+        if (buffer.remaining() >= Integer.BYTES) {
+            return true;
+        }
+        buffer.compact();
+        while (!endOfFile && buffer.position() < Integer.BYTES) {
+            endOfFile = channel.read(buffer) < 0;
+        }
+        buffer.flip();
+        return buffer.remaining() >= Integer.BYTES;
+    }
+
+    /**
+     * Moves to the next number of the file.
+     *
+     * @return whether there was a next number, which is then {@link #current()}.
+     * @throws IOException An exception is thrown where is there is a problem with reading the file.
+     */
+    boolean advance() throws IOException {
+        if (!fill()) {
+            return false;
+        }
+        current = buffer.getInt();
+        return true;
+    }
+
+    int current() {
+        return current;
+    }
+
+    /**
+     * Reads numbers into an array until it is full or the file is over.
+     *
+     * @param destination the array to read into.
+     *
+     * @return the number of numbers read.
+     * @throws IOException An exception is thrown where is there is a problem with reading the file.
+     */
+    int read(int[] destination) throws IOException {
+        int count = 0;
+        while (count < destination.length && fill()) {
+            int length = Math.min(destination.length - count, buffer.remaining() / Integer.BYTES);
+            buffer.asIntBuffer().get(destination, count, length);
+            buffer.position(buffer.position() + length * Integer.BYTES);
+            count += length;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
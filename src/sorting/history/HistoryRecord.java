@@ -0,0 +1,41 @@
+package sorting.history;
+
+import sorting.report.Measurement;
+
+/**
+ * One measurement of the {@link HistoryStore} with the environment of its run.
+ */
+public class HistoryRecord {
+
+    private final RunEnvironment environment;
+    private final Measurement measurement;
+
+    /**
+     * Creates a record.
+     *
+     * @param environment the {@link RunEnvironment} of the run.
+     * @param measurement the {@link Measurement}.
+     */
+    public HistoryRecord(RunEnvironment environment, Measurement measurement) {
+        this.environment = environment;
+        this.measurement = measurement;
+    }
+
+    public RunEnvironment getEnvironment() {
+        return environment;
+    }
+
+    public Measurement getMeasurement() {
+        return measurement;
+    }
+
+    /**
+     * Gets the key of the cell measured, the same for the measurements of a cell in every run.
+     *
+     * @return the sorting technique, dataset, input size and metric of the measurement.
+     */
+    public String getCell() {
+        return String.format("%s %s %d %s", measurement.getSortingType(), measurement.getDataset(),
+                measurement.getSizeOfInput(), measurement.getMetric());
+    }
+}
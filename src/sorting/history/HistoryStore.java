@@ -0,0 +1,176 @@
+package sorting.history;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import sorting.experiment.Metric;
+import sorting.report.JsonResultWriter;
+import sorting.report.Measurement;
+import sorting.report.ResultWriter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * An append-only log of every measurement of every run, kept in a JSON Lines file. Every line is one
+ * {@link Measurement} preceded by the fields of its {@link RunEnvironment}, so runs on different commits, JVMs or
+ * machines can be compared long after their charts were closed. Lines are only ever appended; a line left incomplete
+ * by a run that did not finish is skipped when reading.
+ */
+public class HistoryStore {
+
+    /**
+     * The file of the store when no other is given.
+     */
+    public static final Path DEFAULT_FILE = Paths.get("history", "results.jsonl");
+
+    private final Path file;
+
+    /**
+     * Creates a store.
+     *
+     * @param file the JSON Lines file of the store, created with its directory on the first run.
+     */
+    public HistoryStore(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Opens the store to append the measurements of a run.
+     *
+     * @param environment the {@link RunEnvironment} of the run.
+     *
+     * @return the {@link ResultWriter} appending every measurement to the store.
+     * @throws IOException An exception is thrown where is there is a problem with writing the file.
+     */
+    public ResultWriter append(RunEnvironment environment) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        if (Files.exists(file) && Files.size(file) > 0) {
+            // end a line left incomplete by a run that did not finish, so that it does not swallow the next record
+            try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+                ByteBuffer lastByte = ByteBuffer.allocate(1);
+                channel.position(channel.size() - 1).read(lastByte);
+                if (lastByte.get(0) != '\n') {
+                    Files.write(file, new byte[] {'\n'}, StandardOpenOption.APPEND);
+                }
+            }
+        }
+        return new JsonResultWriter(file, true, environment.toFields());
+    }
+
+    /**
+     * Reads every record of the store, in the order they were appended.
+     *
+     * @return the {@link List} of {@link HistoryRecord}s, empty if nothing was recorded yet.
+     * @throws IOException An exception is thrown where is there is a problem with reading the file.
+     */
+    public List<HistoryRecord> read() throws IOException {
+        List<HistoryRecord> records = new ArrayList<>();
+        if (!Files.exists(file)) {
+            return records;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    records.add(parse(line));
+                } catch (IOException | RuntimeException e) {
+                    System.err.println(file + ":" + lineNumber + ": skipping malformed record, " + e.getMessage());
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Gets the runs of the store in the order they were recorded.
+     *
+     * @param records the records of the store.
+     *
+     * @return the {@link Map} of run to its {@link HistoryRecord}s.
+     */
+    public static Map<String, List<HistoryRecord>> groupByRun(List<HistoryRecord> records) {
+        Map<String, List<HistoryRecord>> runs = new LinkedHashMap<>();
+        for (HistoryRecord record : records) {
+            runs.computeIfAbsent(record.getEnvironment().getRun(), key -> new ArrayList<>()).add(record);
+        }
+        return runs;
+    }
+
+    private static HistoryRecord parse(String line) throws IOException {
+        Map<String, String> fields = new HashMap<>();
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        long[] samples = new long[0];
+        int sizeOfInput = -1;
+
+        try (JsonReader json = new JsonReader(new StringReader(line))) {
+            json.beginObject();
+            while (json.hasNext()) {
+                String name = json.nextName();
+                if (name.equals("sizeOfInput")) {
+                    sizeOfInput = json.nextInt();
+                } else if (name.equals("samples")) {
+                    samples = readSamples(json);
+                } else if (json.peek() == JsonToken.STRING) {
+                    fields.put(name, json.nextString());
+                } else if (json.peek() == JsonToken.NUMBER) {
+                    statistics.put(name, json.nextLong());
+                } else {
+                    json.skipValue();
+                }
+            }
+            json.endObject();
+        }
+
+        RunEnvironment environment = new RunEnvironment(getRequired(fields, "run"), getRequired(fields, "commit"),
+                getRequired(fields, "jvm"), getRequired(fields, "cpu"));
+        if (sizeOfInput < 0) {
+            throw new IllegalArgumentException("sizeOfInput is missing");
+        }
+        Measurement measurement = new Measurement(getRequired(fields, "sortingType"), getRequired(fields, "dataset"),
+                sizeOfInput, Metric.valueOf(getRequired(fields, "metric")), statistics, samples);
+        return new HistoryRecord(environment, measurement);
+    }
+
+    private static long[] readSamples(JsonReader json) throws IOException {
+        long[] samples = new long[16];
+        int count = 0;
+        json.beginArray();
+        while (json.hasNext()) {
+            if (count == samples.length) {
+                samples = Arrays.copyOf(samples, count * 2);
+            }
+            samples[count++] = json.nextLong();
+        }
+        json.endArray();
+        return Arrays.copyOf(samples, count);
+    }
+
+    private static String getRequired(Map<String, String> fields, String name) {
+        String value = fields.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(name + " is missing");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,285 @@
+package sorting.history;
+
+import org.apache.commons.math3.stat.inference.MannWhitneyUTest;
+import sorting.experiment.Metric;
+import sorting.report.Measurement;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * Compares a run of the {@link HistoryStore} against a baseline run and flags the cells that got significantly
+ * slower. The run time samples of a cell in both runs are compared with the Mann-Whitney U test, which makes no
+ * assumption on their distribution, and a cell is a regression when the difference is significant and its median
+ * grew by more than a threshold, so that tiny but significant changes are not reported. The memory usage and the
+ * operation counts have no samples, a cell is a regression when its value grew by more than the threshold.
+ */
+public class RegressionCheck {
+
+    /**
+     * The p-value below which the difference between two runs of a cell is significant.
+     */
+    public static final double DEFAULT_SIGNIFICANCE = 0.01;
+
+    /**
+     * The relative growth of the median above which a significant difference is a regression.
+     */
+    public static final double DEFAULT_THRESHOLD = 0.05;
+
+    /**
+     * The samples required in both runs of a cell to test it.
+     */
+    public static final int MINIMUM_SAMPLES = 5;
+
+    private final double significance;
+    private final double threshold;
+
+    /**
+     * Creates a check with the {@link #DEFAULT_SIGNIFICANCE} and the {@link #DEFAULT_THRESHOLD}.
+     */
+    public RegressionCheck() {
+        this(DEFAULT_SIGNIFICANCE, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Creates a check.
+     *
+     * @param significance the p-value below which the difference between two runs of a cell is significant.
+     * @param threshold the relative growth above which a significant difference is a regression, 0.05 for 5%.
+     */
+    public RegressionCheck(double significance, double threshold) {
+        if (significance <= 0 || significance >= 1) {
+            throw new IllegalArgumentException("The significance must be between 0 and 1, got " + significance);
+        }
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The threshold must not be negative, got " + threshold);
+        }
+        this.significance = significance;
+        this.threshold = threshold;
+    }
+
+    /**
+     * The main method comparing two runs of the history. The arguments are
+     * {@code [--history <file>] [--significance <p-value>] [--threshold <fraction>] [--list] [baseline [candidate]]},
+     * where a run is given by its start time or by a prefix of its commit, the latest run of the commit being taken.
+     * By default the last run is compared against the one before it. The process exits with the status 1 when a
+     * regression is found, so that it can be used as a gate.
+     *
+     * @param args stores all the command line arguments.
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    public static void main(String[] args) throws Exception {
+        Path historyFile = HistoryStore.DEFAULT_FILE;
+        double significance = DEFAULT_SIGNIFICANCE;
+        double threshold = DEFAULT_THRESHOLD;
+        boolean list = false;
+        List<String> selectors = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--history":
+                    historyFile = Paths.get(getValue(args, i++));
+                    break;
+                case "--significance":
+                    significance = Double.parseDouble(getValue(args, i++));
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(getValue(args, i++));
+                    break;
+                case "--list":
+                    list = true;
+                    break;
+                default:
+                    selectors.add(args[i]);
+            }
+        }
+
+        Map<String, List<HistoryRecord>> runs = HistoryStore.groupByRun(new HistoryStore(historyFile).read());
+        if (list) {
+            for (List<HistoryRecord> run : runs.values()) {
+                System.out.println(String.format("%s  %d measurements", run.get(0).getEnvironment(), run.size()));
+            }
+            return;
+        }
+        List<String> runIds = new ArrayList<>(runs.keySet());
+        if (runIds.size() < 2 && selectors.size() < 2) {
+            throw new IllegalArgumentException(historyFile + " holds " + runIds.size() + " runs, two are required");
+        }
+        String candidate = selectors.size() > 1 ? findRun(runs, selectors.get(1)) : runIds.get(runIds.size() - 1);
+        String baseline = !selectors.isEmpty() ? findRun(runs, selectors.get(0))
+                : runIds.get(runIds.indexOf(candidate) - 1);
+
+        System.out.println("Baseline:  " + runs.get(baseline).get(0).getEnvironment());
+        System.out.println("Candidate: " + runs.get(candidate).get(0).getEnvironment());
+        List<CellComparison> comparisons = new RegressionCheck(significance, threshold)
+                .compare(runs.get(baseline), runs.get(candidate));
+        int regressions = 0;
+        for (CellComparison comparison : comparisons) {
+            System.out.println(comparison);
+            if (comparison.isRegression()) {
+                regressions++;
+            }
+        }
+        System.out.println(String.format("%d cells compared, %d regressions", comparisons.size(), regressions));
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static String getValue(String[] args, int option) {
+        if (option + 1 == args.length) {
+            throw new IllegalArgumentException(args[option] + " requires a value");
+        }
+        return args[option + 1];
+    }
+
+    private static String findRun(Map<String, List<HistoryRecord>> runs, String selector) {
+        if (runs.containsKey(selector)) {
+            return selector;
+        }
+        String found = null;
+        for (Map.Entry<String, List<HistoryRecord>> run : runs.entrySet()) {
+            if (run.getValue().get(0).getEnvironment().getCommit().startsWith(selector)) {
+                found = run.getKey();
+            }
+        }
+        if (found == null) {
+            throw new IllegalArgumentException("No run started at or measured on the commit " + selector);
+        }
+        return found;
+    }
+
+    /**
+     * Compares the cells measured in both runs, in the order of the candidate run. When a cell was measured more than
+     * once in a run, its last measurement is taken.
+     *
+     * @param baseline the {@link HistoryRecord}s of the baseline run.
+     * @param candidate the {@link HistoryRecord}s of the run to check.
+     *
+     * @return the {@link List} of {@link CellComparison}s.
+     */
+    public List<CellComparison> compare(List<HistoryRecord> baseline, List<HistoryRecord> candidate) {
+        Map<String, Measurement> baselineCells = new HashMap<>();
+        for (HistoryRecord record : baseline) {
+            baselineCells.put(record.getCell(), record.getMeasurement());
+        }
+        Map<String, Measurement> candidateCells = new LinkedHashMap<>();
+        for (HistoryRecord record : candidate) {
+            candidateCells.put(record.getCell(), record.getMeasurement());
+        }
+
+        List<CellComparison> comparisons = new ArrayList<>();
+        candidateCells.forEach((cell, measurement) -> {
+            Measurement baselineMeasurement = baselineCells.get(cell);
+            if (baselineMeasurement != null) {
+                comparisons.add(compare(cell, baselineMeasurement, measurement));
+            }
+        });
+        return comparisons;
+    }
+
+    private CellComparison compare(String cell, Measurement baseline, Measurement candidate) {
+        if (candidate.getMetric() != Metric.RUN_TIME) {
+            long baselineValue = baseline.getValue();
+            long candidateValue = candidate.getValue();
+            return new CellComparison(cell, baselineValue, candidateValue, Double.NaN,
+                    candidateValue > baselineValue * (1 + threshold));
+        }
+
+        long[] baselineSamples = baseline.getSamples();
+        long[] candidateSamples = candidate.getSamples();
+        long baselineMedian = baseline.getValue();
+        long candidateMedian = candidate.getValue();
+        if (baselineSamples.length < MINIMUM_SAMPLES || candidateSamples.length < MINIMUM_SAMPLES) {
+            return new CellComparison(cell, baselineMedian, candidateMedian, Double.NaN, false);
+        }
+        double pValue = new MannWhitneyUTest().mannWhitneyUTest(toDoubles(baselineSamples), toDoubles(candidateSamples));
+        return new CellComparison(cell, baselineMedian, candidateMedian, pValue,
+                pValue < significance && candidateMedian > baselineMedian * (1 + threshold));
+    }
+
+    private static double[] toDoubles(long[] samples) {
+        double[] doubles = new double[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            doubles[i] = samples[i];
+        }
+        return doubles;
+    }
+
+    /**
+     * The comparison of one cell between the baseline and the candidate run.
+     */
+    public static class CellComparison {
+
+        private final String cell;
+        private final long baselineValue;
+        private final long candidateValue;
+        private final double pValue;
+        private final boolean regression;
+
+        CellComparison(String cell, long baselineValue, long candidateValue, double pValue, boolean regression) {
+            this.cell = cell;
+            this.baselineValue = baselineValue;
+            this.candidateValue = candidateValue;
+            this.pValue = pValue;
+            this.regression = regression;
+        }
+
+        public String getCell() {
+            return cell;
+        }
+
+        /**
+         * Gets the value of the cell in the baseline run.
+         *
+         * @return the {@link Measurement#getValue()} of the baseline.
+         */
+        public long getBaselineValue() {
+            return baselineValue;
+        }
+
+        /**
+         * Gets the value of the cell in the candidate run.
+         *
+         * @return the {@link Measurement#getValue()} of the candidate.
+         */
+        public long getCandidateValue() {
+            return candidateValue;
+        }
+
+        /**
+         * Gets the relative change of the value of the cell.
+         *
+         * @return the change, 0.1 for 10% slower.
+         */
+        public double getChange() {
+            return baselineValue == 0 ? 0 : (double) (candidateValue - baselineValue) / baselineValue;
+        }
+
+        /**
+         * Gets the p-value of the Mann-Whitney U test of the run time samples.
+         *
+         * @return the p-value, or {@code NaN} when the cell was not tested.
+         */
+        public double getPValue() {
+            return pValue;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+
+        @Override
+        public String toString() {
+            boolean runTime = cell.endsWith(Metric.RUN_TIME.name());
+            boolean bytes = cell.endsWith(Metric.MEMORY_USAGE.name()) || cell.endsWith(Metric.AUXILIARY_MEMORY.name());
+            // the run times are printed in microseconds like the cells of the simulation
+            double scale = runTime ? 1000.0 : 1;
+            return String.format("%-50s %14.1f -> %14.1f %s  %+7.1f%%  p=%-8s%s", cell,
+                    baselineValue / scale, candidateValue / scale, runTime ? "us" : bytes ? "B " : "  ",
+                    getChange() * 100,
+                    Double.isNaN(pValue) ? "n/a" : String.format("%.4f", pValue),
+                    regression ? "  REGRESSION" : "");
+        }
+    }
+}
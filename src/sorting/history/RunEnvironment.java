@@ -0,0 +1,137 @@
+package sorting.history;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where and when a run was measured: its start time, which also identifies it, the git commit of the sources, the
+ * JVM and the CPU. Every measurement of the {@link HistoryStore} is recorded with the environment of its run.
+ */
+public class RunEnvironment {
+
+    private static final String UNKNOWN = "unknown";
+
+    private final String run;
+    private final String commit;
+    private final String jvm;
+    private final String cpu;
+
+    /**
+     * Creates an environment, such as one read back from the {@link HistoryStore}.
+     *
+     * @param run the start time of the run in ISO-8601, which identifies it.
+     * @param commit the git commit of the sources, suffixed with {@code -dirty} if they had uncommitted changes.
+     * @param jvm the name and version of the JVM.
+     * @param cpu the model and the number of cores of the CPU.
+     */
+    public RunEnvironment(String run, String commit, String jvm, String cpu) {
+        this.run = run;
+        this.commit = commit;
+        this.jvm = jvm;
+        this.cpu = cpu;
+    }
+
+    /**
+     * Detects the environment of the current run.
+     *
+     * @return the {@link RunEnvironment} of a run starting now.
+     */
+    public static RunEnvironment detect() {
+        String run = Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+        String commit = runGit("rev-parse", "--short=12", "HEAD");
+        if (!commit.equals(UNKNOWN) && !runGit("status", "--porcelain", "--untracked-files=no").isEmpty()) {
+            commit += "-dirty";
+        }
+        String jvm = System.getProperty("java.vm.name") + " " + System.getProperty("java.version");
+        String cpu = getCpuModel() + " x" + Runtime.getRuntime().availableProcessors();
+        return new RunEnvironment(run, commit, jvm, cpu);
+    }
+
+    private static String runGit(String... arguments) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        Collections.addAll(command, arguments);
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            StringBuilder output = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    output.append(line).append('\n');
+                }
+            }
+            if (!process.waitFor(10, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                return UNKNOWN;
+            }
+            return output.toString().trim();
+        } catch (IOException e) {
+            // git is not installed or the sources are not a repository
+            return UNKNOWN;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN;
+        }
+    }
+
+    private static String getCpuModel() {
+        Path cpuInfo = Paths.get("/proc/cpuinfo");
+        if (Files.isReadable(cpuInfo)) {
+            try {
+                for (String line : Files.readAllLines(cpuInfo, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("model name")) {
+                        return line.substring(line.indexOf(':') + 1).trim();
+                    }
+                }
+            } catch (IOException e) {
+                // fall back on the identifiers below
+            }
+        }
+        String identifier = System.getenv("PROCESSOR_IDENTIFIER");
+        return identifier != null ? identifier : System.getProperty("os.arch");
+    }
+
+    public String getRun() {
+        return run;
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public String getJvm() {
+        return jvm;
+    }
+
+    public String getCpu() {
+        return cpu;
+    }
+
+    /**
+     * Gets the fields of the environment in the order they are recorded.
+     *
+     * @return the {@link Map} of field name to value.
+     */
+    public Map<String, String> toFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("run", run);
+        fields.put("commit", commit);
+        fields.put("jvm", jvm);
+        fields.put("cpu", cpu);
+        return fields;
+    }
+
+    @Override
+    public String toString() {
+        return "run " + run + " at commit " + commit + " on " + jvm + ", " + cpu;
+    }
+}
@@ -0,0 +1,194 @@
+package sorting.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the {@code int} columns extracted from CSV files, so that a column is parsed once rather than on every run.
+ *
+ * A column is kept in a binary file: a 64 byte header followed by the numbers in big endian order. The header holds
+ * the magic number {@code SCOL}, the format version, the column, the row count, and the size, modification time
+ * and SHA-256 hash of the source file. The cache file is memory-mapped when read. When the size and modification
+ * time of the source still match the cache is used as is; when only the modification time changed the source is
+ * hashed, and the column is parsed again with {@link ParallelCsvColumnReader} only if the hash differs too. Columns
+ * loaded once are also kept in memory for the rest of the process, as long as their source does not change.
+ */
+public class ColumnCache {
+
+    private static final int MAGIC = 0x53434F4C;
+    private static final int VERSION = 1;
+    private static final int HASH_BYTES = 32;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES + HASH_BYTES;
+
+    private final Path cacheDirectory;
+    private final Map<String, CachedColumn> columns = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache keeping its files in the given directory, which is created on the first write.
+     *
+     * @param cacheDirectory the directory of the cache files.
+     */
+    public ColumnCache(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    /**
+     * Gets a column of a CSV file with a header row, from memory, from its cache file or else by parsing the file.
+     * The returned array is shared between the callers and must not be modified.
+     *
+     * @param csvFile the CSV file.
+     * @param column the index of the column, starting at 0.
+     *
+     * @return the numbers of the column, in the order of the rows.
+     * @throws IOException An exception is thrown where is there is a problem with reading or writing of files.
+     */
+    public int[] read(Path csvFile, int column) throws IOException {
+        long sourceSize = Files.size(csvFile);
+        long sourceModified = Files.getLastModifiedTime(csvFile).toMillis();
+        Path cacheFile = cacheDirectory.resolve(csvFile.getFileName() + "." + column + ".col");
+        String key = csvFile.toAbsolutePath().normalize() + "#" + column;
+
+        CachedColumn cached = columns.get(key);
+        if (cached == null || cached.sourceSize != sourceSize || cached.sourceModified != sourceModified) {
+            cached = load(csvFile, column, sourceSize, sourceModified, cacheFile);
+            columns.put(key, cached);
+        }
+        return cached.values;
+    }
+
+    // Read the column from the cache file if it is still valid, otherwise parse the source and write the cache file
+    private CachedColumn load(Path csvFile, int column, long sourceSize, long sourceModified, Path cacheFile)
+            throws IOException {
+        byte[] sourceHash = null;
+        int[] values = null;
+        boolean touched = false;
+        if (Files.isRegularFile(cacheFile)) {
+            try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+                long length = channel.size();
+                if (length >= HEADER_BYTES) {
+                    MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                    int magic = mapping.getInt();
+                    int version = mapping.getInt();
+                    int cachedColumn = mapping.getInt();
+                    int rowCount = mapping.getInt();
+                    long cachedSourceSize = mapping.getLong();
+                    long cachedSourceModified = mapping.getLong();
+                    byte[] cachedSourceHash = new byte[HASH_BYTES];
+                    mapping.get(cachedSourceHash);
+
+                    if (magic == MAGIC && version == VERSION && cachedColumn == column
+                            && length == HEADER_BYTES + (long) rowCount * Integer.BYTES
+                            && cachedSourceSize == sourceSize) {
+                        boolean valid = cachedSourceModified == sourceModified;
+                        if (!valid) {
+                            sourceHash = hash(csvFile);
+                            valid = Arrays.equals(sourceHash, cachedSourceHash);
+                        }
+                        if (valid) {
+                            values = new int[rowCount];
+                            mapping.asIntBuffer().get(values);
+                            touched = cachedSourceModified != sourceModified;
+                        }
+                    }
+                }
+            }
+        }
+
+        if (values == null) {
+            if (sourceHash == null) {
+                sourceHash = hash(csvFile);
+            }
+            values = new ParallelCsvColumnReader(column).read(csvFile);
+            write(cacheFile, column, values, sourceSize, sourceModified, sourceHash);
+        } else if (touched) {
+            // the source was only touched, record its new time to skip the hash next time
+            write(cacheFile, column, values, sourceSize, sourceModified, sourceHash);
+        }
+        return new CachedColumn(values, sourceSize, sourceModified);
+    }
+
+    // Write the cache file to a temporary file first, so that an interrupted write never leaves a corrupt one
+    private void write(Path cacheFile, int column, int[] values, long sourceSize, long sourceModified,
+                       byte[] sourceHash) throws IOException {
+        Files.createDirectories(cacheDirectory);
+        Path temporaryFile = Files.createTempFile(cacheDirectory, cacheFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+                header.putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putInt(column)
+                        .putInt(values.length)
+                        .putLong(sourceSize)
+                        .putLong(sourceModified)
+                        .put(sourceHash);
+                header.flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+
+                ByteBuffer body = ByteBuffer.allocate(CsvColumnReader.DEFAULT_BUFFER_SIZE);
+                int offset = 0;
+                while (offset < values.length) {
+                    int count = Math.min(values.length - offset, body.capacity() / Integer.BYTES);
+                    body.clear();
+                    body.asIntBuffer().put(values, offset, count);
+                    body.limit(count * Integer.BYTES);
+                    while (body.hasRemaining()) {
+                        channel.write(body);
+                    }
+                    offset += count;
+                }
+            }
+            Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(CsvColumnReader.DEFAULT_BUFFER_SIZE);
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return digest.digest();
+    }
+
+    /**
+     * A column kept in memory, with the size and modification time of its source when it was loaded.
+     */
+    private static class CachedColumn {
+
+        private final int[] values;
+        private final long sourceSize;
+        private final long sourceModified;
+
+        CachedColumn(int[] values, long sourceSize, long sourceModified) {
+            this.values = values;
+            this.sourceSize = sourceSize;
+            this.sourceModified = sourceModified;
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package sorting.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Extracts one column of {@code int} numbers from a CSV file with a header row.
+ *
+ * The file is read in blocks through a {@link FileChannel} and scanned byte by byte: fields before and after the
+ * target column are skipped without being decoded, and the digits of the target column are parsed straight into
+ * a growable {@code int[]}, so no object is created per row. Quoted fields are handled as in RFC 4180, including
+ * escaped quotes and separators or line breaks inside quotes; the target column may itself be quoted. Lines end with
+ * a line feed, optionally preceded by a carriage return, and a carriage return anywhere else outside quotes is
+ * rejected rather than taken as part of a field. Blank lines are skipped. The file is assumed to be ASCII compatible,
+ * such as UTF-8.
+ */
+public class CsvColumnReader {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final int column;
+    private final int bufferSize;
+
+    /**
+     * Creates a reader of the given column with the default buffer size.
+     *
+     * @param column the index of the column to read, starting at 0.
+     */
+    public CsvColumnReader(int column) {
+        this(column, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a reader of the given column.
+     *
+     * @param column the index of the column to read, starting at 0.
+     * @param bufferSize the size in bytes of the blocks read from the file.
+     */
+    public CsvColumnReader(int column, int bufferSize) {
+        if (column < 0) {
+            throw new IllegalArgumentException("Column must not be negative: " + column);
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.column = column;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Reads the column from every row of the file but the header.
+     *
+     * @param file the CSV file.
+     *
+     * @return the numbers of the column, in the order of the rows.
+     * @throws IOException An exception is thrown where is there is a problem with reading of files.
+     */
+    public int[] read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel, 0, channel.size(), true);
+        }
+    }
+
+    /**
+     * Reads the column from the rows within a range of bytes of the file. The range must start at the beginning
+     * of a row and end at the end of one, and the channel is only read at absolute positions, so several ranges of
+     * the same channel can be read concurrently.
+     *
+     * @param channel the {@link FileChannel} of the CSV file.
+     * @param start the position of the first byte of the range, inclusive.
+     * @param end the position of the last byte of the range, exclusive.
+     * @param skipHeader whether the first row of the range is the header, which is then skipped.
+     *
+     * @return the numbers of the column, in the order of the rows.
+     * @throws IOException An exception is thrown where is there is a problem with reading of files.
+     */
+    public int[] read(FileChannel channel, long start, long end, boolean skipHeader) throws IOException {
+        ColumnParser parser = new ColumnParser(column, skipHeader);
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(bufferSize, Math.max(end - start, 1)));
+        long position = start;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            parser.parse(buffer.array(), read, position);
+            position += read;
+        }
+        return parser.finish(position);
+    }
+
+    /**
+     * The state of the scan of a range, kept between the blocks of the range.
+     */
+    private static class ColumnParser {
+
+        private final int column;
+
+        private int[] values = new int[1024];
+        private int count;
+
+        private boolean skippingRow;
+        private int field;
+        private boolean fieldStart = true;
+        private boolean rowEmpty = true;
+        private boolean inQuotes;
+        private boolean afterQuote;
+        private boolean afterCarriageReturn;
+
+        // the number in the target column parsed so far
+        private long value;
+        private boolean signed;
+        private boolean negative;
+        private int digits;
+
+        ColumnParser(int column, boolean skipHeader) {
+            this.column = column;
+            this.skippingRow = skipHeader;
+        }
+
+        void parse(byte[] bytes, int length, long offset) {
+            // the state lives in locals for the scan and is only stored back to call the rare paths and at the end
+            int field = this.field;
+            boolean fieldStart = this.fieldStart;
+            boolean rowEmpty = this.rowEmpty;
+            boolean inQuotes = this.inQuotes;
+            boolean afterQuote = this.afterQuote;
+            boolean afterCarriageReturn = this.afterCarriageReturn;
+            int target = skippingRow ? -1 : column;
+
+            for (int i = 0; i < length; i++) {
+                byte b = bytes[i];
+
+                if (afterCarriageReturn) {
+                    // never in quotes, as the carriage return was not
+                    afterCarriageReturn = false;
+                    if (b != '\n') {
+                        throw strayCarriageReturn(offset + i - 1);
+                    }
+                }
+                if (inQuotes) {
+                    if (b == '"') {
+                        inQuotes = false;
+                        afterQuote = true;
+                    } else if (field == target) {
+                        digit(b, offset + i);
+                    }
+                    continue;
+                }
+                if (afterQuote) {
+                    afterQuote = false;
+                    if (b == '"') {
+                        // an escaped quote, inside the quoted field again
+                        if (field == target) {
+                            throw notAnInt(offset + i);
+                        }
+                        inQuotes = true;
+                        continue;
+                    }
+                }
+
+                if (b == ',') {
+                    if (field == target) {
+                        add(offset + i);
+                    }
+                    field++;
+                    fieldStart = true;
+                    rowEmpty = false;
+                } else if (b == '\n') {
+                    this.field = field;
+                    this.rowEmpty = rowEmpty;
+                    endRow(offset + i);
+                    field = 0;
+                    fieldStart = true;
+                    rowEmpty = true;
+                    target = skippingRow ? -1 : column;
+                } else if (b == '"' && fieldStart) {
+                    inQuotes = true;
+                    fieldStart = false;
+                    rowEmpty = false;
+                } else if (b == '\r') {
+                    afterCarriageReturn = true;
+                } else {
+                    // a quote in the middle of an unquoted field is part of its value
+                    if (field == target) {
+                        digit(b, offset + i);
+                    }
+                    fieldStart = false;
+                    rowEmpty = false;
+                }
+            }
+
+            this.field = field;
+            this.fieldStart = fieldStart;
+            this.rowEmpty = rowEmpty;
+            this.inQuotes = inQuotes;
+            this.afterQuote = afterQuote;
+            this.afterCarriageReturn = afterCarriageReturn;
+        }
+
+        private void digit(byte b, long offset) {
+            if (b >= '0' && b <= '9') {
+                value = value * 10 + (b - '0');
+                digits++;
+                if (value > -(long) Integer.MIN_VALUE) {
+                    throw notAnInt(offset);
+                }
+            } else if ((b == '-' || b == '+') && digits == 0 && !signed) {
+                signed = true;
+                negative = b == '-';
+            } else {
+                throw notAnInt(offset);
+            }
+        }
+
+        private void add(long offset) {
+            if (digits == 0) {
+                throw notAnInt(offset);
+            }
+            long number = negative ? -value : value;
+            if (number > Integer.MAX_VALUE) {
+                throw notAnInt(offset);
+            }
+            if (count == values.length) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count++] = (int) number;
+            value = 0;
+            signed = false;
+            negative = false;
+            digits = 0;
+        }
+
+        private void endRow(long offset) {
+            if (!rowEmpty) {
+                if (skippingRow) {
+                    skippingRow = false;
+                } else if (field == column) {
+                    add(offset);
+                } else if (field < column) {
+                    throw new NumberFormatException("Row ending at byte " + offset + " has no column " + column);
+                }
+            }
+            field = 0;
+            fieldStart = true;
+            rowEmpty = true;
+        }
+
+        private NumberFormatException notAnInt(long offset) {
+            return new NumberFormatException("Column " + column + " is not an int at byte " + offset);
+        }
+
+        private NumberFormatException strayCarriageReturn(long offset) {
+            return new NumberFormatException("Carriage return not followed by a line feed at byte " + offset);
+        }
+
+        int[] finish(long offset) {
+            if (inQuotes) {
+                throw new NumberFormatException("Unterminated quoted field at byte " + offset);
+            }
+            if (afterCarriageReturn) {
+                throw strayCarriageReturn(offset - 1);
+            }
+            endRow(offset);
+            return Arrays.copyOf(values, count);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package sorting.io;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Extracts one column of {@code int} numbers from a CSV file with a header row, parsing ranges of the file on the
+ * threads of a {@link ForkJoinPool}.
+ *
+ * The file is split into about four ranges per thread, each moved forward to the start of the next line, and every
+ * range is parsed by {@link CsvColumnReader} on its own thread, all reading the same {@link FileChannel} at absolute
+ * positions. The numbers of the ranges are then concatenated in file order. Splitting on line breaks assumes that
+ * quoted fields do not contain any, which {@link CsvColumnReader} alone does support. The ranges start after a line
+ * feed, so a carriage return that is not followed by one is rejected whatever range it falls in, as by a sequential
+ * read. A reader created with its own threads shuts them down when it is closed.
+ */
+public class ParallelCsvColumnReader implements AutoCloseable {
+
+    /**
+     * Ranges are not made smaller than this many bytes, as a task would cost more than the parsing.
+     */
+    public static final int DEFAULT_MINIMUM_RANGE_SIZE = 1 << 20;
+
+    private static final int RANGES_PER_THREAD = 4;
+
+    private final CsvColumnReader columnReader;
+    private final ForkJoinPool forkJoinPool;
+    private final int minimumRangeSize;
+    private final boolean ownsPool;
+
+    /**
+     * Creates a reader of the given column on the common {@link ForkJoinPool}.
+     *
+     * @param column the index of the column to read, starting at 0.
+     */
+    public ParallelCsvColumnReader(int column) {
+        this(column, ForkJoinPool.commonPool(), DEFAULT_MINIMUM_RANGE_SIZE);
+    }
+
+    /**
+     * Creates a reader of the given column on a dedicated {@link ForkJoinPool}, which is shut down when the reader
+     * is closed.
+     *
+     * @param column the index of the column to read, starting at 0.
+     * @param parallelism the number of worker threads.
+     */
+    public ParallelCsvColumnReader(int column, int parallelism) {
+        this(column, new ForkJoinPool(parallelism), DEFAULT_MINIMUM_RANGE_SIZE, true);
+    }
+
+    /**
+     * Creates a reader of the given column on a pool owned by the caller, which closing the reader leaves running.
+     *
+     * @param column the index of the column to read, starting at 0.
+     * @param forkJoinPool the {@link ForkJoinPool} to parse in.
+     * @param minimumRangeSize the size in bytes below which a file is not split any further.
+     */
+    public ParallelCsvColumnReader(int column, ForkJoinPool forkJoinPool, int minimumRangeSize) {
+        this(column, forkJoinPool, minimumRangeSize, false);
+    }
+
+    private ParallelCsvColumnReader(int column, ForkJoinPool forkJoinPool, int minimumRangeSize, boolean ownsPool) {
+        if (minimumRangeSize < 1) {
+            throw new IllegalArgumentException("Minimum range size must be positive: " + minimumRangeSize);
+        }
+        this.columnReader = new CsvColumnReader(column);
+        this.forkJoinPool = forkJoinPool;
+        this.minimumRangeSize = minimumRangeSize;
+        this.ownsPool = ownsPool;
+    }
+
+    /**
+     * Shuts down the threads of the reader if it owns them; the reader must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        if (ownsPool) {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Reads the column from every row of the file but the header.
+     *
+     * @param file the CSV file.
+     *
+     * @return the numbers of the column, in the order of the rows.
+     * @throws IOException An exception is thrown where is there is a problem with reading of files.
+     */
+    public int[] read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] boundaries = split(channel);
+            if (boundaries.length == 2) {
+                return columnReader.read(channel, 0, boundaries[1], true);
+            }
+
+            List<ForkJoinTask<int[]>> tasks = new ArrayList<>();
+            for (int range = 0; range < boundaries.length - 1; range++) {
+                long start = boundaries[range];
+                long end = boundaries[range + 1];
+                boolean skipHeader = range == 0;
+                tasks.add(forkJoinPool.submit(() -> {
+                    try {
+                        return columnReader.read(channel, start, end, skipHeader);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+
+            List<int[]> parts = new ArrayList<>();
+            int size = 0;
+            for (ForkJoinTask<int[]> task : tasks) {
+                int[] part = join(task);
+                parts.add(part);
+                size += part.length;
+            }
+            int[] values = new int[size];
+            int offset = 0;
+            for (int[] part : parts) {
+                System.arraycopy(part, 0, values, offset, part.length);
+                offset += part.length;
+            }
+            return values;
+        }
+    }
+
+    // Find the start of every range and the end of the file, every start but the first one after a line break
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        long ranges = Math.max(1, Math.min((long) forkJoinPool.getParallelism() * RANGES_PER_THREAD,
+                size / minimumRangeSize));
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 12);
+        for (long range = 1; range < ranges; range++) {
+            long start = nextLine(channel, Math.max(size * range / ranges, boundaries.get(boundaries.size() - 1)), buffer);
+            if (start < size && start > boundaries.get(boundaries.size() - 1)) {
+                boundaries.add(start);
+            }
+        }
+        boundaries.add(size);
+
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    // Find the position after the first line break at or after the given position, or the end of the file
+    private static long nextLine(FileChannel channel, long position, ByteBuffer buffer) throws IOException {
+        while (true) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                return channel.size();
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+    }
+
+    private static int[] join(ForkJoinTask<int[]> task) throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading the CSV file");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause != null && cause.getCause() != null && cause.getClass() == cause.getCause().getClass()) {
+                // a task failing on another thread rethrows a copy of the exception, without its message
+                cause = cause.getCause();
+            }
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
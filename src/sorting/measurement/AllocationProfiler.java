@@ -0,0 +1,216 @@
+package sorting.measurement;
+
+import sorting.types.ParallelSort;
+import sorting.types.Sort;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures the memory a sorting technique needs. Instead of comparing the used heap before and after a run,
+ * which any garbage collection in between turns negative or meaningless, it reads the exact number of bytes
+ * allocated by the current thread from {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}.
+ * Next to that it records the peak growth of the heap pools and the garbage collections of every run.
+ * <p>
+ * A {@link ParallelSort} allocates on the worker threads of its pool as well, so its allocations are summed over all
+ * the live threads of the JVM instead. This is only meaningful while nothing else runs, which is why the experiment
+ * scheduler measures such cells alone, and the allocations of a thread that terminates during a run are missed.
+ */
+public class AllocationProfiler {
+
+    public static final int DEFAULT_WARMUP_ITERATIONS = 2;
+    public static final int DEFAULT_MEASURED_ITERATIONS = 5;
+
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+    private final List<MemoryPoolMXBean> heapPoolMXBeans = new ArrayList<>();
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final long measurementOverhead;
+    private final long allThreadsMeasurementOverhead;
+
+    /**
+     * Creates an allocation profiler with the default warmup and measured iterations.
+     */
+    public AllocationProfiler() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASURED_ITERATIONS);
+    }
+
+    /**
+     * Creates an allocation profiler.
+     *
+     * @param warmupIterations the number of iterations to run before recording.
+     * @param measuredIterations the number of recorded iterations.
+     * @throws UnsupportedOperationException if the JVM cannot measure thread allocations.
+     */
+    public AllocationProfiler(int warmupIterations, int measuredIterations) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Warmup iterations must not be negative: " + warmupIterations);
+        }
+        if (measuredIterations < 1) {
+            throw new IllegalArgumentException("At least one measured iteration is required: " + measuredIterations);
+        }
+        java.lang.management.ThreadMXBean platformThreadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(platformThreadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) platformThreadMXBean).isThreadAllocatedMemorySupported()) {
+            throw new UnsupportedOperationException("Thread allocated memory is not supported by this JVM");
+        }
+        this.threadMXBean = (com.sun.management.ThreadMXBean) platformThreadMXBean;
+        this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        this.garbageCollectorMXBeans = ManagementFactory.getGarbageCollectorMXBeans();
+        for (MemoryPoolMXBean memoryPoolMXBean : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (memoryPoolMXBean.getType() == MemoryType.HEAP) {
+                heapPoolMXBeans.add(memoryPoolMXBean);
+            }
+        }
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+        this.measurementOverhead = measureOverhead(false);
+        this.allThreadsMeasurementOverhead = measureOverhead(true);
+    }
+
+    /**
+     * Measures the memory used for sorting the input of the given pool with the given sorting type. Every
+     * iteration sorts a fresh copy of the input, and the copy is not part of the measurement. The allocations of a
+     * {@link ParallelSort} are summed over all the live threads.
+     *
+     * @param inputPool the {@link InputPool} providing the input array.
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the {@link AllocationResult} of the measured iterations.
+     */
+    public AllocationResult measure(final InputPool inputPool, final Sort currentSortingType) {
+        // the pool always restores the same buffer
+        final int[] inputArray = inputPool.getFreshCopy();
+        return measure(inputPool::getFreshCopy, () -> currentSortingType.sort(inputArray),
+                currentSortingType instanceof ParallelSort);
+    }
+
+    /**
+     * Measures the memory allocated by the given task on the current thread.
+     *
+     * @param setup the unmeasured setup run before every iteration of the task.
+     * @param task the task to measure.
+     *
+     * @return the {@link AllocationResult} of the measured iterations.
+     */
+    public AllocationResult measure(Runnable setup, Runnable task) {
+        return measure(setup, task, false);
+    }
+
+    /**
+     * Measures the memory used by the given task.
+     *
+     * @param setup the unmeasured setup run before every iteration of the task.
+     * @param task the task to measure.
+     * @param allThreads whether to sum the allocations of all the live threads, for a task running on other threads
+     *                   as well, or to measure the current thread only.
+     *
+     * @return the {@link AllocationResult} of the measured iterations.
+     */
+    public AllocationResult measure(Runnable setup, Runnable task, boolean allThreads) {
+        for (int i = 0; i < warmupIterations; i++) {
+            setup.run();
+            task.run();
+        }
+
+        long overhead = allThreads ? allThreadsMeasurementOverhead : measurementOverhead;
+        long totalAllocatedBytes = 0;
+        long peakAuxiliaryBytes = 0;
+        long gcCountBefore = getGcCount();
+        long gcTimeBefore = getGcTimeMillis();
+        for (int i = 0; i < measuredIterations; i++) {
+            setup.run();
+            long heapUsageBefore = resetPeakHeapUsage();
+            Map<Long, Long> allocatedBytesBefore = getAllocatedBytes(allThreads);
+            task.run();
+            long allocatedBytes = getAllocatedBytesSince(allocatedBytesBefore, allThreads);
+            totalAllocatedBytes += Math.max(0, allocatedBytes - overhead);
+            peakAuxiliaryBytes = Math.max(peakAuxiliaryBytes, getPeakHeapUsage() - heapUsageBefore);
+        }
+        return new AllocationResult(totalAllocatedBytes / measuredIterations,
+                                    peakAuxiliaryBytes,
+                                    getGcCount() - gcCountBefore,
+                                    getGcTimeMillis() - gcTimeBefore,
+                                    measuredIterations);
+    }
+
+    /**
+     * Measures the bytes reported for an empty task, which are subtracted from every measurement.
+     */
+    private long measureOverhead(boolean allThreads) {
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            Map<Long, Long> allocatedBytesBefore = getAllocatedBytes(allThreads);
+            overhead = Math.min(overhead, getAllocatedBytesSince(allocatedBytesBefore, allThreads));
+        }
+        return overhead;
+    }
+
+    /**
+     * Reads the bytes allocated so far by the current thread or by every live thread, by thread id.
+     */
+    private Map<Long, Long> getAllocatedBytes(boolean allThreads) {
+        long[] threadIds = allThreads ? threadMXBean.getAllThreadIds() : new long[] {Thread.currentThread().getId()};
+        long[] allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadIds);
+        Map<Long, Long> allocatedBytesByThread = new HashMap<>();
+        for (int i = 0; i < threadIds.length; i++) {
+            // -1 for a thread that terminated in the meantime
+            if (allocatedBytes[i] >= 0) {
+                allocatedBytesByThread.put(threadIds[i], allocatedBytes[i]);
+            }
+        }
+        return allocatedBytesByThread;
+    }
+
+    /**
+     * Sums the bytes allocated since the given reading, a thread started in the meantime counting from zero.
+     */
+    private long getAllocatedBytesSince(Map<Long, Long> allocatedBytesBefore, boolean allThreads) {
+        long allocatedBytes = 0;
+        for (Map.Entry<Long, Long> entry : getAllocatedBytes(allThreads).entrySet()) {
+            Long before = allocatedBytesBefore.get(entry.getKey());
+            allocatedBytes += entry.getValue() - (before == null ? 0 : before);
+        }
+        return allocatedBytes;
+    }
+
+    private long resetPeakHeapUsage() {
+        long heapUsage = 0;
+        for (MemoryPoolMXBean heapPoolMXBean : heapPoolMXBeans) {
+            heapPoolMXBean.resetPeakUsage();
+            heapUsage += heapPoolMXBean.getUsage().getUsed();
+        }
+        return heapUsage;
+    }
+
+    private long getPeakHeapUsage() {
+        long peakHeapUsage = 0;
+        for (MemoryPoolMXBean heapPoolMXBean : heapPoolMXBeans) {
+            peakHeapUsage += heapPoolMXBean.getPeakUsage().getUsed();
+        }
+        return peakHeapUsage;
+    }
+
+    private long getGcCount() {
+        long gcCount = 0;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans) {
+            gcCount += Math.max(0, garbageCollectorMXBean.getCollectionCount());
+        }
+        return gcCount;
+    }
+
+    private long getGcTimeMillis() {
+        long gcTime = 0;
+        for (GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans) {
+            gcTime += Math.max(0, garbageCollectorMXBean.getCollectionTime());
+        }
+        return gcTime;
+    }
+}
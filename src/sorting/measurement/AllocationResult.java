@@ -0,0 +1,67 @@
+package sorting.measurement;
+
+/**
+ * The memory profile of the measured runs of one (sorting type, dataset, input size) cell.
+ */
+public class AllocationResult {
+
+    private final long allocatedBytes;
+    private final long peakAuxiliaryBytes;
+    private final long gcCount;
+    private final long gcTimeMillis;
+    private final int runs;
+
+    /**
+     * Creates the result.
+     *
+     * @param allocatedBytes the average number of bytes allocated by one run.
+     * @param peakAuxiliaryBytes the largest growth of the heap over its usage at the start of a run.
+     * @param gcCount the number of garbage collections during all the runs.
+     * @param gcTimeMillis the time spent in garbage collections during all the runs.
+     * @param runs the number of measured runs.
+     */
+    public AllocationResult(long allocatedBytes, long peakAuxiliaryBytes, long gcCount, long gcTimeMillis, int runs) {
+        this.allocatedBytes = allocatedBytes;
+        this.peakAuxiliaryBytes = peakAuxiliaryBytes;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+        this.runs = runs;
+    }
+
+    /**
+     * Gets the exact number of bytes allocated by one run, averaged over the measured runs.
+     *
+     * @return the bytes allocated per run.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Gets the estimate of the peak auxiliary space of a run: the largest growth of the heap pools over their
+     * usage at the start of the run. It is an upper bound, as the pools may peak at different moments.
+     *
+     * @return the peak auxiliary space estimate in bytes.
+     */
+    public long getPeakAuxiliaryBytes() {
+        return peakAuxiliaryBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    public int getRuns() {
+        return runs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("allocated=%dB peakAuxiliary=%dB gcCount=%d gcTime=%dms (runs=%d)",
+                allocatedBytes, peakAuxiliaryBytes, gcCount, gcTimeMillis, runs);
+    }
+}
@@ -0,0 +1,38 @@
+package sorting.measurement;
+
+/**
+ * Provides every measured run with a pristine copy of the same input. Most {@link sorting.types.Sort}
+ * implementations sort in place, so without a fresh copy every run after the first one would be measured on
+ * already sorted data. The copy is written into one buffer that is allocated up front and reused by all runs,
+ * so providing an input never allocates inside a measurement.
+ */
+public class InputPool {
+
+    private final int[] pristineInput;
+    private final int[] workingCopy;
+
+    /**
+     * Creates the pool for the given input.
+     *
+     * @param inputArray the input array, which is copied and never modified by the pool.
+     */
+    public InputPool(int[] inputArray) {
+        this.pristineInput = inputArray.clone();
+        this.workingCopy = new int[inputArray.length];
+    }
+
+    /**
+     * Restores the pooled buffer to the original input and returns it. The returned array is only valid until
+     * the next call.
+     *
+     * @return the pooled buffer holding a pristine copy of the input.
+     */
+    public int[] getFreshCopy() {
+        System.arraycopy(pristineInput, 0, workingCopy, 0, pristineInput.length);
+        return workingCopy;
+    }
+
+    public int size() {
+        return pristineInput.length;
+    }
+}
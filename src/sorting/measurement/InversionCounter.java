@@ -0,0 +1,142 @@
+package sorting.measurement;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Counts the inversions of an array, i.e. the pairs {@code i < j} with {@code a[i] > a[j]}, which is the degree of
+ * sortedness plotted by the simulation. The count is a by-product of a merge sort: whenever an element of the
+ * right half is merged before the remaining elements of the left half, it forms an inversion with each of them.
+ * This takes O(n log n) instead of the O(n^2) of comparing every pair, and the count is a {@code long} because an
+ * array of n elements has up to n(n-1)/2 inversions.
+ */
+public final class InversionCounter {
+
+    /**
+     * Arrays of at least this many elements are counted in parallel by {@link #countInversions(int[])}.
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /**
+     * Ranges of at most this many elements are counted by insertion sort, whose shifts are the inversions.
+     */
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    /**
+     * Ranges of at most this many elements are not split further by the parallel count.
+     */
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    private InversionCounter() {
+    }
+
+    /**
+     * Counts the inversions of the given array, in parallel on the common {@link ForkJoinPool} for large arrays.
+     *
+     * @param inputArray the input array, which is not modified.
+     *
+     * @return the number of inversions.
+     */
+    public static long countInversions(int[] inputArray) {
+        if (inputArray.length >= PARALLEL_THRESHOLD) {
+            return countInversionsInParallel(inputArray, ForkJoinPool.commonPool());
+        }
+        int[] sortedArray = inputArray.clone();
+        return sortAndCount(inputArray.clone(), sortedArray, 0, sortedArray.length);
+    }
+
+    /**
+     * Counts the inversions of the given array by splitting the work into fork-join tasks.
+     *
+     * @param inputArray the input array, which is not modified.
+     * @param forkJoinPool the {@link ForkJoinPool} to count in.
+     *
+     * @return the number of inversions.
+     */
+    public static long countInversionsInParallel(int[] inputArray, ForkJoinPool forkJoinPool) {
+        int[] sortedArray = inputArray.clone();
+        return forkJoinPool.invoke(new CountTask(inputArray.clone(), sortedArray, 0, sortedArray.length));
+    }
+
+    /**
+     * Sorts {@code source[low, high)} into {@code destination[low, high)} and counts its inversions. Both ranges
+     * must hold the same elements on entry; the halves are sorted into {@code source} and then merged back, so
+     * no other buffer is needed.
+     */
+    private static long sortAndCount(int[] source, int[] destination, int low, int high) {
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            return insertionSortAndCount(destination, low, high);
+        }
+        int middle = (low + high) >>> 1;
+        long inversions = sortAndCount(destination, source, low, middle)
+                + sortAndCount(destination, source, middle, high);
+        return inversions + mergeAndCount(source, destination, low, middle, high);
+    }
+
+    private static long insertionSortAndCount(int[] array, int low, int high) {
+        long inversions = 0;
+        for (int i = low + 1; i < high; i++) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= low && array[j] > key) {
+                array[j + 1] = array[j];
+                j--;
+            }
+            inversions += i - 1 - j;
+            array[j + 1] = key;
+        }
+        return inversions;
+    }
+
+    private static long mergeAndCount(int[] source, int[] destination, int low, int middle, int high) {
+        long inversions = 0;
+        int i = low;
+        int j = middle;
+        int k = low;
+        while (i < middle && j < high) {
+            if (source[j] < source[i]) {
+                // source[j] is smaller than every remaining element of the left half
+                inversions += middle - i;
+                destination[k++] = source[j++];
+            } else {
+                destination[k++] = source[i++];
+            }
+        }
+        System.arraycopy(source, i, destination, k, middle - i);
+        System.arraycopy(source, j, destination, k + middle - i, high - j);
+        return inversions;
+    }
+
+    /**
+     * Counts the inversions of both halves of a range in parallel, then the inversions between them.
+     */
+    private static final class CountTask extends RecursiveTask<Long> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int[] destination;
+        private final int low;
+        private final int high;
+
+        CountTask(int[] source, int[] destination, int low, int high) {
+            this.source = source;
+            this.destination = destination;
+            this.low = low;
+            this.high = high;
+        }
+
+        @Override
+        protected Long compute() {
+            if (high - low <= SEQUENTIAL_THRESHOLD) {
+                return sortAndCount(source, destination, low, high);
+            }
+            int middle = (low + high) >>> 1;
+            CountTask left = new CountTask(destination, source, low, middle);
+            left.fork();
+            long inversions = new CountTask(destination, source, middle, high).compute();
+            inversions += left.join();
+            return inversions + mergeAndCount(source, destination, low, middle, high);
+        }
+    }
+}
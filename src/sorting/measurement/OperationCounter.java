@@ -0,0 +1,39 @@
+package sorting.measurement;
+
+import sorting.types.OperationCounts;
+import sorting.types.Sort;
+import sorting.types.SortCounters;
+import sorting.types.UncountedSort;
+
+/**
+ * Counts the operations of a sorting technique with {@link SortCounters}. The counts of a sort depend only on its
+ * input, so unlike the run time and the memory they need neither warmup nor repetition, and a single sort of a fresh
+ * copy of the input is counted.
+ */
+public class OperationCounter {
+
+    /**
+     * Counts the operations of sorting the input of the given pool with the given sorting type. Copying the input
+     * is not part of the counts. The counters are shared, so no other sort may run at the same time.
+     *
+     * @param inputPool the {@link InputPool} providing the input array.
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the {@link OperationCounts} of the sort.
+     * @throws IllegalStateException if the sorts do not count their operations.
+     * @throws IllegalArgumentException if the sorting type is an {@link UncountedSort}.
+     */
+    public synchronized OperationCounts measure(InputPool inputPool, Sort currentSortingType) {
+        if (!SortCounters.ENABLED) {
+            throw new IllegalStateException("The sorts do not count their operations, run with -Dsorting.counters=true");
+        }
+        if (currentSortingType instanceof UncountedSort) {
+            throw new IllegalArgumentException(currentSortingType.getClass().getSimpleName()
+                    + " does not count its operations");
+        }
+        int[] inputArray = inputPool.getFreshCopy();
+        SortCounters.reset();
+        currentSortingType.sort(inputArray);
+        return SortCounters.snapshot();
+    }
+}
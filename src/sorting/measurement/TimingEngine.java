@@ -0,0 +1,113 @@
+package sorting.measurement;
+
+import sorting.types.Sort;
+
+import java.util.Arrays;
+
+/**
+ * Measures run times with {@link System#nanoTime()}. Every measurement first runs a number of unrecorded
+ * warmup iterations so that the JIT compiler has settled, then records the measured iterations and rejects
+ * outliers outside of the Tukey fences {@code [Q1 - k * IQR, Q3 + k * IQR]}.
+ */
+public class TimingEngine {
+
+    public static final int DEFAULT_WARMUP_ITERATIONS = 5;
+    public static final int DEFAULT_MEASURED_ITERATIONS = 15;
+    public static final double DEFAULT_OUTLIER_FACTOR = 1.5;
+
+    private final int warmupIterations;
+    private final int measuredIterations;
+    private final double outlierFactor;
+
+    /**
+     * Creates a timing engine with the default warmup, measured iterations and outlier factor.
+     */
+    public TimingEngine() {
+        this(DEFAULT_WARMUP_ITERATIONS, DEFAULT_MEASURED_ITERATIONS, DEFAULT_OUTLIER_FACTOR);
+    }
+
+    /**
+     * Creates a timing engine.
+     *
+     * @param warmupIterations the number of iterations to run before recording.
+     * @param measuredIterations the number of recorded iterations.
+     * @param outlierFactor the Tukey fence factor {@code k}, or {@code 0} to keep every sample.
+     */
+    public TimingEngine(int warmupIterations, int measuredIterations, double outlierFactor) {
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("Warmup iterations must not be negative: " + warmupIterations);
+        }
+        if (measuredIterations < 1) {
+            throw new IllegalArgumentException("At least one measured iteration is required: " + measuredIterations);
+        }
+        if (outlierFactor < 0) {
+            throw new IllegalArgumentException("Outlier factor must not be negative: " + outlierFactor);
+        }
+        this.warmupIterations = warmupIterations;
+        this.measuredIterations = measuredIterations;
+        this.outlierFactor = outlierFactor;
+    }
+
+    /**
+     * Measures the run time of sorting the input of the given pool with the given sorting type. Every
+     * iteration sorts a fresh copy of the input, and the copy is not part of the measurement.
+     *
+     * @param inputPool the {@link InputPool} providing the input array.
+     * @param currentSortingType the {@link Sort} type.
+     *
+     * @return the {@link TimingResult} of the measured iterations.
+     */
+    public TimingResult measure(final InputPool inputPool, final Sort currentSortingType) {
+        // the pool always restores the same buffer
+        final int[] inputArray = inputPool.getFreshCopy();
+        return measure(inputPool::getFreshCopy, () -> currentSortingType.sort(inputArray));
+    }
+
+    /**
+     * Measures the run time of the given task.
+     *
+     * @param setup the unmeasured setup run before every iteration of the task.
+     * @param task the task to measure.
+     *
+     * @return the {@link TimingResult} of the measured iterations.
+     */
+    public TimingResult measure(Runnable setup, Runnable task) {
+        for (int i = 0; i < warmupIterations; i++) {
+            setup.run();
+            task.run();
+        }
+
+        long[] samples = new long[measuredIterations];
+        for (int i = 0; i < measuredIterations; i++) {
+            setup.run();
+            long startTime = System.nanoTime();
+            task.run();
+            samples[i] = System.nanoTime() - startTime;
+        }
+        Arrays.sort(samples);
+        return rejectOutliers(samples);
+    }
+
+    private TimingResult rejectOutliers(long[] sortedSamples) {
+        // too few samples for the quartiles to mean anything
+        if (outlierFactor == 0 || sortedSamples.length < 4) {
+            return new TimingResult(sortedSamples, 0);
+        }
+
+        long firstQuartile = sortedSamples[sortedSamples.length / 4];
+        long thirdQuartile = sortedSamples[(3 * sortedSamples.length) / 4];
+        double interQuartileRange = thirdQuartile - firstQuartile;
+        double lowerFence = firstQuartile - outlierFactor * interQuartileRange;
+        double upperFence = thirdQuartile + outlierFactor * interQuartileRange;
+
+        int from = 0;
+        int to = sortedSamples.length;
+        while (sortedSamples[from] < lowerFence) {
+            from++;
+        }
+        while (sortedSamples[to - 1] > upperFence) {
+            to--;
+        }
+        return new TimingResult(Arrays.copyOfRange(sortedSamples, from, to), sortedSamples.length - (to - from));
+    }
+}
@@ -0,0 +1,90 @@
+package sorting.measurement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The run time samples of one (sorting type, dataset, input size) cell, in nanoseconds, after outlier rejection.
+ */
+public class TimingResult {
+
+    private final long[] sortedSamples;
+    private final int rejectedSamples;
+
+    /**
+     * Creates the result from the retained samples.
+     *
+     * @param sortedSamples the retained samples in nanoseconds, sorted in ascending order.
+     * @param rejectedSamples the number of samples rejected as outliers.
+     */
+    public TimingResult(long[] sortedSamples, int rejectedSamples) {
+        if (sortedSamples.length == 0) {
+            throw new IllegalArgumentException("At least one sample is required");
+        }
+        this.sortedSamples = sortedSamples;
+        this.rejectedSamples = rejectedSamples;
+    }
+
+    public long getMin() {
+        return sortedSamples[0];
+    }
+
+    public long getMedian() {
+        return getPercentile(50);
+    }
+
+    public long getP90() {
+        return getPercentile(90);
+    }
+
+    public long getP99() {
+        return getPercentile(99);
+    }
+
+    public long getMax() {
+        return sortedSamples[sortedSamples.length - 1];
+    }
+
+    /**
+     * Gets the given percentile of the samples using the nearest-rank method.
+     *
+     * @param percentile the percentile between 0 and 100.
+     *
+     * @return the sample at the given percentile, in nanoseconds.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedSamples.length);
+        return sortedSamples[Math.max(0, rank - 1)];
+    }
+
+    public int getSampleCount() {
+        return sortedSamples.length;
+    }
+
+    public int getRejectedSamples() {
+        return rejectedSamples;
+    }
+
+    /**
+     * Gets a copy of the retained samples.
+     *
+     * @return the retained samples in nanoseconds, sorted in ascending order.
+     */
+    public long[] getSamples() {
+        return sortedSamples.clone();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("min=%dus median=%dus p90=%dus p99=%dus max=%dus (samples=%d, rejected=%d)",
+                TimeUnit.NANOSECONDS.toMicros(getMin()),
+                TimeUnit.NANOSECONDS.toMicros(getMedian()),
+                TimeUnit.NANOSECONDS.toMicros(getP90()),
+                TimeUnit.NANOSECONDS.toMicros(getP99()),
+                TimeUnit.NANOSECONDS.toMicros(getMax()),
+                getSampleCount(),
+                rejectedSamples);
+    }
+}
@@ -0,0 +1,164 @@
+package sorting.offheap;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An array of {@code int} numbers stored in a memory-mapped file, in big endian order like
+ * {@link java.io.DataOutputStream#writeInt(int)} writes them.
+ *
+ * One mapping is limited to 2 GB, so the file is mapped in segments of {@link #SEGMENT_SIZE} numbers and indexed
+ * by {@code long}, which lets the array be larger than both the heap and {@link Integer#MAX_VALUE}. The numbers
+ * live in the page cache rather than on the heap: the operating system pages them in and writes them back.
+ */
+public class MappedIntArray implements Closeable {
+
+    private static final int SEGMENT_SHIFT = 27;
+
+    /**
+     * The number of numbers in every segment but the last, 512 MB of the file.
+     */
+    public static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] mappings;
+    private final IntBuffer[] segments;
+    private final long size;
+
+    private MappedIntArray(FileChannel channel, long size) throws IOException {
+        this.channel = channel;
+        this.size = size;
+        int segmentCount = (int) ((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        this.mappings = new MappedByteBuffer[segmentCount];
+        this.segments = new IntBuffer[segmentCount];
+        for (int segment = 0; segment < segmentCount; segment++) {
+            long first = (long) segment << SEGMENT_SHIFT;
+            long length = Math.min(SEGMENT_SIZE, size - first);
+            mappings[segment] = channel.map(FileChannel.MapMode.READ_WRITE, first * Integer.BYTES, length * Integer.BYTES);
+            segments[segment] = mappings[segment].asIntBuffer();
+        }
+    }
+
+    /**
+     * Maps an existing file of numbers for reading and writing.
+     *
+     * @param file the file, whose length must be a multiple of 4 bytes.
+     *
+     * @return the {@link MappedIntArray} over the file.
+     * @throws IOException An exception is thrown where is there is a problem with opening or mapping the file.
+     */
+    public static MappedIntArray open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            long length = channel.size();
+            if (length % Integer.BYTES != 0) {
+                throw new IllegalArgumentException(file + " has " + length + " bytes, which is not a whole number of ints");
+            }
+            return new MappedIntArray(channel, length / Integer.BYTES);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates or truncates a file to hold the given number of numbers, all zero, and maps it.
+     *
+     * @param file the file.
+     * @param size the number of numbers.
+     *
+     * @return the {@link MappedIntArray} over the file.
+     * @throws IOException An exception is thrown where is there is a problem with creating or mapping the file.
+     */
+    public static MappedIntArray create(Path file, long size) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // mapping in read write mode grows the file to the mapped length
+            return new MappedIntArray(channel, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int get(long index) {
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    public void set(long index, int value) {
+        segments[(int) (index >>> SEGMENT_SHIFT)].put((int) (index & SEGMENT_MASK), value);
+    }
+
+    /**
+     * Copies numbers of the file into an array.
+     *
+     * @param index the index of the first number to copy.
+     * @param destination the array to copy to.
+     * @param offset the index in the array of the first number.
+     * @param length the number of numbers to copy.
+     */
+    public void get(long index, int[] destination, int offset, int length) {
+        while (length > 0) {
+            IntBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)].duplicate();
+            segment.position((int) (index & SEGMENT_MASK));
+            int count = Math.min(length, segment.remaining());
+            segment.get(destination, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Copies numbers of an array into the file.
+     *
+     * @param index the index in the file of the first number.
+     * @param source the array to copy from.
+     * @param offset the index of the first number to copy.
+     * @param length the number of numbers to copy.
+     */
+    public void put(long index, int[] source, int offset, int length) {
+        while (length > 0) {
+            IntBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)].duplicate();
+            segment.position((int) (index & SEGMENT_MASK));
+            int count = Math.min(length, segment.remaining());
+            segment.put(source, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Writes the modified numbers back to the file.
+     */
+    public void force() {
+        for (MappedByteBuffer mapping : mappings) {
+            mapping.force();
+        }
+    }
+
+    /**
+     * Writes the modified numbers back to the file and closes it. The mappings themselves are only released once
+     * they are garbage collected, so the array must not be used any more.
+     *
+     * @throws IOException An exception is thrown where is there is a problem with closing the file.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+}
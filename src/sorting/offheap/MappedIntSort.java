@@ -0,0 +1,8 @@
+package sorting.offheap;
+
+/**
+ * Sort interface for {@link MappedIntArray}, the off-heap counterpart of {@link sorting.types.Sort}.
+ */
+public interface MappedIntSort {
+    void sort(MappedIntArray mappedArray);
+}
@@ -0,0 +1,142 @@
+package sorting.offheap;
+
+import sorting.types.QuickSort;
+
+/**
+ * Implementation of Quick Sort on a {@link MappedIntArray}.
+ *
+ * It is the introsort of {@link QuickSort} with {@code long} indexes: ninther pivots, three-way partitioning in
+ * place on the mapping, recursion on the smaller side only and heap sort once the recursion gets too deep. Ranges
+ * small enough are copied into one reused heap buffer, sorted there by {@link QuickSort} and copied back, so the
+ * heap never holds more than {@link #LEAF_SIZE} numbers however large the file is.
+ */
+public class MappedQuickSort implements MappedIntSort {
+
+    /**
+     * Ranges of at most this many numbers are sorted in the heap buffer.
+     */
+    public static final int LEAF_SIZE = 1 << 16;
+
+    private final QuickSort quickSort = new QuickSort();
+
+    private static long medianOfThree(MappedIntArray array, long i, long j, long k) {
+        int a = array.get(i);
+        int b = array.get(j);
+        int c = array.get(k);
+        if (a < b) {
+            if (b < c) {
+                return j;
+            }
+            return a < c ? k : i;
+        }
+        if (a < c) {
+            return i;
+        }
+        return b < c ? k : j;
+    }
+
+    // Find the pivot of the range [low, high) as the ninther
+    private static int selectPivot(MappedIntArray array, long low, long high) {
+        long size = high - low;
+        long middle = low + size / 2;
+        long step = size / 8;
+        long first = medianOfThree(array, low, low + step, low + 2 * step);
+        long second = medianOfThree(array, middle - step, middle, middle + step);
+        long third = medianOfThree(array, high - 1 - 2 * step, high - 1 - step, high - 1);
+        return array.get(medianOfThree(array, first, second, third));
+    }
+
+    private static void swap(MappedIntArray array, long i, long j) {
+        int temp = array.get(i);
+        array.set(i, array.get(j));
+        array.set(j, temp);
+    }
+
+    // Sort the range [low, high), falling back to heap sort once depthLimit partitions did not finish it
+    private void introSort(MappedIntArray array, long low, long high, int depthLimit, int[] buffer) {
+        while (high - low > LEAF_SIZE) {
+            if (depthLimit == 0) {
+                heapSort(array, low, high);
+                return;
+            }
+            depthLimit--;
+
+            // Partition into [low, lessThan) < pivot, [lessThan, greaterThan] == pivot
+            // and (greaterThan, high) > pivot
+            int pivot = selectPivot(array, low, high);
+            long lessThan = low;
+            long greaterThan = high - 1;
+            long i = low;
+            while (i <= greaterThan) {
+                int number = array.get(i);
+                if (number < pivot) {
+                    swap(array, lessThan++, i++);
+                } else if (number > pivot) {
+                    swap(array, i, greaterThan--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse on the smaller side and continue with the larger one
+            if (lessThan - low < high - greaterThan - 1) {
+                introSort(array, low, lessThan, depthLimit, buffer);
+                low = greaterThan + 1;
+            } else {
+                introSort(array, greaterThan + 1, high, depthLimit, buffer);
+                high = lessThan;
+            }
+        }
+
+        int size = (int) (high - low);
+        if (size > 1) {
+            array.get(low, buffer, 0, size);
+            quickSort.quickSort(buffer, 0, size - 1);
+            array.put(low, buffer, 0, size);
+        }
+    }
+
+    private static void heapSort(MappedIntArray array, long low, long high) {
+        long size = high - low;
+
+        // Build a max heap bottom up
+        for (long i = size / 2 - 1; i >= 0; i--) {
+            siftDown(array, low, i, size);
+        }
+
+        // Move the largest number to the end and restore the heap on the rest
+        for (long end = size - 1; end > 0; end--) {
+            swap(array, low, low + end);
+            siftDown(array, low, 0, end);
+        }
+    }
+
+    private static void siftDown(MappedIntArray heap, long offset, long root, long size) {
+        int value = heap.get(offset + root);
+        long child;
+        while ((child = 2 * root + 1) < size) {
+            if (child + 1 < size && heap.get(offset + child + 1) > heap.get(offset + child)) {
+                child++;
+            }
+            int childValue = heap.get(offset + child);
+            if (childValue <= value) {
+                break;
+            }
+            heap.set(offset + root, childValue);
+            root = child;
+        }
+        heap.set(offset + root, value);
+    }
+
+    @Override
+    public void sort(MappedIntArray mappedArray) {
+        // null and empty validation
+        if (mappedArray == null || mappedArray.size() <= 1) {
+            return;
+        }
+
+        long size = mappedArray.size();
+        int[] buffer = new int[(int) Math.min(size, LEAF_SIZE)];
+        introSort(mappedArray, 0, size, 2 * (63 - Long.numberOfLeadingZeros(size)), buffer);
+    }
+}
@@ -0,0 +1,61 @@
+package sorting.report;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Writes the measurements to a CSV file with one row per measurement. The statistics of the run time, the memory
+ * usage and the operation counts have their own columns, left empty in the rows of the other metrics; the raw samples are only written by the
+ * {@link JsonResultWriter}.
+ */
+public class CsvResultWriter implements ResultWriter {
+
+    private final Writer writer;
+    private final List<String> statisticColumns = new ArrayList<>();
+
+    /**
+     * Creates the file, replacing any previous one, and writes its header.
+     *
+     * @param file the CSV file.
+     * @throws IOException An exception is thrown where is there is a problem with writing the file.
+     */
+    public CsvResultWriter(Path file) throws IOException {
+        statisticColumns.addAll(Measurement.TIMING_STATISTICS);
+        statisticColumns.addAll(Measurement.ALLOCATION_STATISTICS);
+        statisticColumns.addAll(Measurement.COUNTER_STATISTICS);
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        writer.write("sortingType,dataset,sizeOfInput,metric," + String.join(",", statisticColumns) + "\n");
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void write(Measurement measurement) throws IOException {
+        StringBuilder row = new StringBuilder();
+        row.append(escape(measurement.getSortingType())).append(',')
+                .append(escape(measurement.getDataset())).append(',')
+                .append(measurement.getSizeOfInput()).append(',')
+                .append(measurement.getMetric());
+        for (String column : statisticColumns) {
+            Long value = measurement.getStatistics().get(column);
+            row.append(',').append(value == null ? "" : value.toString());
+        }
+        writer.write(row.append('\n').toString());
+        writer.flush();
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
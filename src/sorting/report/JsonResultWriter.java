@@ -0,0 +1,77 @@
+package sorting.report;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Writes the measurements to a JSON Lines file, one JSON object per line, including the raw run time samples. Unlike
+ * a single JSON array, every line is a complete document, so the file stays readable if the run does not finish.
+ */
+public class JsonResultWriter implements ResultWriter {
+
+    private final Writer writer;
+    private final Map<String, String> fields;
+
+    /**
+     * Creates the file, replacing any previous one.
+     *
+     * @param file the JSON Lines file.
+     * @throws IOException An exception is thrown where is there is a problem with writing the file.
+     */
+    public JsonResultWriter(Path file) throws IOException {
+        this(file, false, Collections.<String, String>emptyMap());
+    }
+
+    /**
+     * Opens the file, adding the given fields to every line.
+     *
+     * @param file the JSON Lines file.
+     * @param append whether to append to the file rather than replace it.
+     * @param fields the {@link Map} of name to value of the fields written first on every line, such as the
+     *               environment of the run.
+     * @throws IOException An exception is thrown where is there is a problem with writing the file.
+     */
+    public JsonResultWriter(Path file, boolean append, Map<String, String> fields) throws IOException {
+        writer = append
+                ? Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+                : Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        this.fields = new LinkedHashMap<>(fields);
+    }
+
+    @Override
+    public synchronized void write(Measurement measurement) throws IOException {
+        // the JsonWriter writes straight through to the file, one is created per line as each line is a document
+        JsonWriter json = new JsonWriter(writer);
+        json.beginObject();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            json.name(field.getKey()).value(field.getValue());
+        }
+        json.name("sortingType").value(measurement.getSortingType());
+        json.name("dataset").value(measurement.getDataset());
+        json.name("sizeOfInput").value(measurement.getSizeOfInput());
+        json.name("metric").value(measurement.getMetric().name());
+        for (Map.Entry<String, Long> statistic : measurement.getStatistics().entrySet()) {
+            json.name(statistic.getKey()).value(statistic.getValue());
+        }
+        json.name("samples").beginArray();
+        for (long sample : measurement.getSamples()) {
+            json.value(sample);
+        }
+        json.endArray();
+        json.endObject();
+        writer.write('\n');
+        writer.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        writer.close();
+    }
+}
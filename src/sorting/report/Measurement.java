@@ -0,0 +1,194 @@
+package sorting.report;
+
+import sorting.experiment.Metric;
+import sorting.measurement.AllocationResult;
+import sorting.measurement.TimingResult;
+import sorting.types.OperationCounts;
+
+import java.util.*;
+
+/**
+ * One measured cell as it is exported: the sorting technique, the dataset and input size it ran on, the
+ * {@link Metric} and the statistics of its runs.
+ */
+public class Measurement {
+
+    /**
+     * The names of the statistics of a {@link Metric#RUN_TIME} measurement, the times being in nanoseconds.
+     */
+    public static final List<String> TIMING_STATISTICS = Collections.unmodifiableList(Arrays.asList(
+            "minNanos", "medianNanos", "p90Nanos", "p99Nanos", "maxNanos", "sampleCount", "rejectedSamples"));
+
+    /**
+     * The names of the statistics of a {@link Metric#MEMORY_USAGE} measurement.
+     */
+    public static final List<String> ALLOCATION_STATISTICS = Collections.unmodifiableList(Arrays.asList(
+            "allocatedBytes", "peakAuxiliaryBytes", "gcCount", "gcTimeMillis", "runs"));
+
+    /**
+     * The names of the statistics of a measurement of an operation count, all counted in the same sort.
+     */
+    public static final List<String> COUNTER_STATISTICS = Collections.unmodifiableList(Arrays.asList(
+            "comparisons", "moves", "maxRecursionDepth", "auxiliaryBytes", "merges"));
+
+    private final String sortingType;
+    private final String dataset;
+    private final int sizeOfInput;
+    private final Metric metric;
+    private final Map<String, Long> statistics;
+    private final long[] samples;
+
+    /**
+     * Creates a measurement, such as one read back from a file.
+     *
+     * @param sortingType the name of the sorting technique.
+     * @param dataset the name of the dataset, or an empty string when the input is not taken from a dataset.
+     * @param sizeOfInput the input size.
+     * @param metric the {@link Metric} measured.
+     * @param statistics the {@link Map} of statistic name to value.
+     * @param samples the run time samples in nanoseconds and ascending order, empty for the other metrics.
+     */
+    public Measurement(String sortingType, String dataset, int sizeOfInput, Metric metric,
+                       Map<String, Long> statistics, long[] samples) {
+        this.sortingType = sortingType;
+        this.dataset = dataset;
+        this.sizeOfInput = sizeOfInput;
+        this.metric = metric;
+        this.statistics = Collections.unmodifiableMap(new LinkedHashMap<>(statistics));
+        this.samples = samples;
+    }
+
+    /**
+     * Creates the measurement of the run time of a cell.
+     *
+     * @param sortingType the name of the sorting technique.
+     * @param dataset the name of the dataset, or an empty string when the input is not taken from a dataset.
+     * @param sizeOfInput the input size.
+     * @param timingResult the {@link TimingResult} of the cell.
+     *
+     * @return the {@link Measurement}.
+     */
+    public static Measurement ofTiming(String sortingType, String dataset, int sizeOfInput, TimingResult timingResult) {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("minNanos", timingResult.getMin());
+        statistics.put("medianNanos", timingResult.getMedian());
+        statistics.put("p90Nanos", timingResult.getP90());
+        statistics.put("p99Nanos", timingResult.getP99());
+        statistics.put("maxNanos", timingResult.getMax());
+        statistics.put("sampleCount", (long) timingResult.getSampleCount());
+        statistics.put("rejectedSamples", (long) timingResult.getRejectedSamples());
+        return new Measurement(sortingType, dataset, sizeOfInput, Metric.RUN_TIME, statistics, timingResult.getSamples());
+    }
+
+    /**
+     * Creates the measurement of the memory usage of a cell.
+     *
+     * @param sortingType the name of the sorting technique.
+     * @param dataset the name of the dataset, or an empty string when the input is not taken from a dataset.
+     * @param sizeOfInput the input size.
+     * @param allocationResult the {@link AllocationResult} of the cell.
+     *
+     * @return the {@link Measurement}.
+     */
+    public static Measurement ofAllocation(String sortingType, String dataset, int sizeOfInput,
+                                           AllocationResult allocationResult) {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("allocatedBytes", allocationResult.getAllocatedBytes());
+        statistics.put("peakAuxiliaryBytes", allocationResult.getPeakAuxiliaryBytes());
+        statistics.put("gcCount", allocationResult.getGcCount());
+        statistics.put("gcTimeMillis", allocationResult.getGcTimeMillis());
+        statistics.put("runs", (long) allocationResult.getRuns());
+        return new Measurement(sortingType, dataset, sizeOfInput, Metric.MEMORY_USAGE, statistics, new long[0]);
+    }
+
+    /**
+     * Creates the measurement of an operation count of a cell.
+     *
+     * @param sortingType the name of the sorting technique.
+     * @param dataset the name of the dataset, or an empty string when the input is not taken from a dataset.
+     * @param sizeOfInput the input size.
+     * @param metric the operation count {@link Metric} of the cell.
+     * @param operationCounts the {@link OperationCounts} of the cell.
+     *
+     * @return the {@link Measurement}.
+     */
+    public static Measurement ofOperationCounts(String sortingType, String dataset, int sizeOfInput, Metric metric,
+                                                OperationCounts operationCounts) {
+        if (!metric.isOperationCount()) {
+            throw new IllegalArgumentException(metric + " is not an operation count");
+        }
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("comparisons", operationCounts.getComparisons());
+        statistics.put("moves", operationCounts.getMoves());
+        statistics.put("maxRecursionDepth", operationCounts.getMaxRecursionDepth());
+        statistics.put("auxiliaryBytes", operationCounts.getAuxiliaryBytes());
+        statistics.put("merges", operationCounts.getMerges());
+        return new Measurement(sortingType, dataset, sizeOfInput, metric, statistics, new long[0]);
+    }
+
+    public String getSortingType() {
+        return sortingType;
+    }
+
+    public String getDataset() {
+        return dataset;
+    }
+
+    public int getSizeOfInput() {
+        return sizeOfInput;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    /**
+     * Gets the value of the measurement that is charted and compared between runs: the median run time in
+     * nanoseconds, the allocated bytes, or the count of its operation count metric.
+     *
+     * @return the value.
+     */
+    public long getValue() {
+        return statistics.get(getValueStatistic(metric));
+    }
+
+    private static String getValueStatistic(Metric metric) {
+        switch (metric) {
+            case RUN_TIME:
+                return "medianNanos";
+            case MEMORY_USAGE:
+                return "allocatedBytes";
+            case COMPARISONS:
+                return "comparisons";
+            case MOVES:
+                return "moves";
+            case RECURSION_DEPTH:
+                return "maxRecursionDepth";
+            case AUXILIARY_MEMORY:
+                return "auxiliaryBytes";
+            case MERGES:
+                return "merges";
+            default:
+                throw new IllegalArgumentException("Unknown metric " + metric);
+        }
+    }
+
+    /**
+     * Gets the statistics of the measurement, in the order of {@link #TIMING_STATISTICS},
+     * {@link #ALLOCATION_STATISTICS} or {@link #COUNTER_STATISTICS} depending on the metric.
+     *
+     * @return the {@link Map} of statistic name to value.
+     */
+    public Map<String, Long> getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the run time samples retained after outlier rejection, in nanoseconds and ascending order.
+     *
+     * @return the samples, empty unless the metric is {@link Metric#RUN_TIME}.
+     */
+    public long[] getSamples() {
+        return samples.clone();
+    }
+}
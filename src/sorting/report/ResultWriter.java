@@ -0,0 +1,20 @@
+package sorting.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes every {@link Measurement} to a file as soon as it is taken, so that the results of a run are kept even if it
+ * does not finish. Measurements are written from the threads of the experiment scheduler, so implementations must be
+ * thread-safe.
+ */
+public interface ResultWriter extends Closeable {
+
+    /**
+     * Writes a measurement and flushes it to the file.
+     *
+     * @param measurement the {@link Measurement} to write.
+     * @throws IOException An exception is thrown where is there is a problem with writing the file.
+     */
+    void write(Measurement measurement) throws IOException;
+}
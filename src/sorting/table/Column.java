@@ -0,0 +1,44 @@
+package sorting.table;
+
+import sorting.types.ArgSort;
+
+/**
+ * A column of a {@link Table}, holding its values in primitive arrays.
+ */
+public interface Column {
+
+    /**
+     * Gets the number of values of the column.
+     *
+     * @return the number of values.
+     */
+    int size();
+
+    /**
+     * Stably reorders the given permutation by the values of this column it points to.
+     *
+     * @param argSort the {@link ArgSort} to sort with.
+     * @param permutation the row indexes, reordered in place.
+     *
+     * @return the reordered permutation.
+     */
+    int[] sortPermutation(ArgSort argSort, int[] permutation);
+
+    /**
+     * Gets the column with its values reordered by the given permutation.
+     *
+     * @param permutation the permutation of the rows.
+     *
+     * @return the reordered column.
+     */
+    Column reorder(int[] permutation);
+
+    /**
+     * Gets the column of the first rows.
+     *
+     * @param rows the number of rows to keep.
+     *
+     * @return the column of the first rows.
+     */
+    Column head(int rows);
+}
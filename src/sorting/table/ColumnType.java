@@ -0,0 +1,13 @@
+package sorting.table;
+
+/**
+ * The types of the columns of a {@link Table}.
+ */
+public enum ColumnType {
+    /** Stored in an {@link IntColumn}. */
+    INT,
+    /** Stored in a {@link DoubleColumn}. */
+    DOUBLE,
+    /** Stored in a dictionary encoded {@link StringColumn}. */
+    STRING
+}
@@ -0,0 +1,54 @@
+package sorting.table;
+
+import sorting.types.ArgSort;
+import sorting.types.Permutation;
+
+import java.util.Arrays;
+
+/**
+ * A column of {@code double} values. It is sorted in the order of {@link Double#compare(double, double)}, by
+ * {@code long} keys mapped from the bits of the values like in {@link sorting.types.DoubleRadixSort}.
+ */
+public class DoubleColumn implements Column {
+
+    private final double[] values;
+
+    /**
+     * Creates the column.
+     *
+     * @param values the values, which are not copied.
+     */
+    public DoubleColumn(double[] values) {
+        this.values = values;
+    }
+
+    public double get(int row) {
+        return values[row];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public int[] sortPermutation(ArgSort argSort, int[] permutation) {
+        long[] keys = new long[values.length];
+        for (int i = 0; i < values.length; i++) {
+            // canonical NaN bits sort after positive infinity
+            long bits = Double.doubleToLongBits(values[i]);
+            keys[i] = bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+        }
+        return argSort.sortPermutation(keys, permutation);
+    }
+
+    @Override
+    public DoubleColumn reorder(int[] permutation) {
+        return new DoubleColumn(Permutation.apply(permutation, values));
+    }
+
+    @Override
+    public DoubleColumn head(int rows) {
+        return new DoubleColumn(Arrays.copyOf(values, rows));
+    }
+}
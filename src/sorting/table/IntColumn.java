@@ -0,0 +1,47 @@
+package sorting.table;
+
+import sorting.types.ArgSort;
+import sorting.types.Permutation;
+
+import java.util.Arrays;
+
+/**
+ * A column of {@code int} values.
+ */
+public class IntColumn implements Column {
+
+    private final int[] values;
+
+    /**
+     * Creates the column.
+     *
+     * @param values the values, which are not copied.
+     */
+    public IntColumn(int[] values) {
+        this.values = values;
+    }
+
+    public int get(int row) {
+        return values[row];
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public int[] sortPermutation(ArgSort argSort, int[] permutation) {
+        return argSort.sortPermutation(values, permutation);
+    }
+
+    @Override
+    public IntColumn reorder(int[] permutation) {
+        return new IntColumn(Permutation.apply(permutation, values));
+    }
+
+    @Override
+    public IntColumn head(int rows) {
+        return new IntColumn(Arrays.copyOf(values, rows));
+    }
+}
@@ -0,0 +1,116 @@
+package sorting.table;
+
+import sorting.types.ArgSort;
+import sorting.types.Permutation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A dictionary encoded column of strings. Every row holds the {@code int} code of its string, and the codes are
+ * assigned in the order of the sorted dictionary, so the column is sorted by sorting its codes like an
+ * {@link IntColumn}, without comparing a single string.
+ */
+public class StringColumn implements Column {
+
+    private final int[] codes;
+    private final String[] dictionary;
+
+    /**
+     * Creates the column.
+     *
+     * @param codes the index of the string of every row in the dictionary, which is not copied.
+     * @param dictionary the distinct strings in ascending order, which is not copied.
+     */
+    public StringColumn(int[] codes, String[] dictionary) {
+        this.codes = codes;
+        this.dictionary = dictionary;
+    }
+
+    public String get(int row) {
+        return dictionary[codes[row]];
+    }
+
+    /**
+     * Gets the code of the string of a row, which compares like the string itself.
+     *
+     * @param row the row.
+     *
+     * @return the code of the string of the row.
+     */
+    public int getCode(int row) {
+        return codes[row];
+    }
+
+    public int getDictionarySize() {
+        return dictionary.length;
+    }
+
+    @Override
+    public int size() {
+        return codes.length;
+    }
+
+    @Override
+    public int[] sortPermutation(ArgSort argSort, int[] permutation) {
+        return argSort.sortPermutation(codes, permutation);
+    }
+
+    @Override
+    public StringColumn reorder(int[] permutation) {
+        return new StringColumn(Permutation.apply(permutation, codes), dictionary);
+    }
+
+    @Override
+    public StringColumn head(int rows) {
+        return new StringColumn(Arrays.copyOf(codes, rows), dictionary);
+    }
+
+    /**
+     * Builds a {@link StringColumn} one value at a time.
+     */
+    public static class Builder {
+
+        private final Map<String, Integer> codesByString = new HashMap<>();
+        private int[] codes = new int[1024];
+        private int size;
+
+        /**
+         * Appends a value to the column.
+         *
+         * @param value the value.
+         */
+        public void add(String value) {
+            Integer code = codesByString.get(value);
+            if (code == null) {
+                code = codesByString.size();
+                codesByString.put(value, code);
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = code;
+        }
+
+        /**
+         * Builds the column, recoding the strings in the order of the sorted dictionary.
+         *
+         * @return the {@link StringColumn}.
+         */
+        public StringColumn build() {
+            String[] dictionary = codesByString.keySet().toArray(new String[0]);
+            Arrays.sort(dictionary);
+            int[] sortedCodes = new int[dictionary.length];
+            for (int i = 0; i < dictionary.length; i++) {
+                sortedCodes[codesByString.get(dictionary[i])] = i;
+            }
+
+            int[] recoded = new int[size];
+            for (int i = 0; i < size; i++) {
+                recoded[i] = sortedCodes[codes[i]];
+            }
+            return new StringColumn(recoded, dictionary);
+        }
+    }
+}
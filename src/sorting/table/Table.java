@@ -0,0 +1,228 @@
+package sorting.table;
+
+import org.supercsv.io.CsvListReader;
+import org.supercsv.io.ICsvListReader;
+import org.supercsv.prefs.CsvPreference;
+import sorting.io.CsvColumnReader;
+import sorting.types.ArgSort;
+import sorting.types.Permutation;
+import sorting.types.RadixArgSort;
+
+import java.io.FileReader;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * A columnar table: numbers are stored in primitive arrays and strings are dictionary encoded, so that the whole
+ * table can be sorted by several columns, like an SQL {@code ORDER BY}, without creating an object per row.
+ *
+ * A sort by several columns is a chain of stable sorts of one permutation, from the least to the most significant
+ * column, each done by a stable {@link ArgSort}. The permutation is then applied to every column once.
+ */
+public class Table {
+
+    private final Map<String, Column> columns;
+    private final int rowCount;
+
+    /**
+     * Creates the table.
+     *
+     * @param columns the {@link Map} of column name to {@link Column}, in the order of the columns.
+     */
+    public Table(Map<String, ? extends Column> columns) {
+        this.columns = Collections.unmodifiableMap(new LinkedHashMap<>(columns));
+        this.rowCount = columns.isEmpty() ? 0 : columns.values().iterator().next().size();
+        for (Map.Entry<String, Column> column : this.columns.entrySet()) {
+            if (column.getValue().size() != rowCount) {
+                throw new IllegalArgumentException("Column " + column.getKey() + " has " + column.getValue().size()
+                        + " rows instead of " + rowCount);
+            }
+        }
+    }
+
+    /**
+     * Reads a table from a CSV file with a header. The {@link ColumnType#INT} columns are parsed straight from the
+     * bytes of the file by {@link CsvColumnReader}, one pass per column, and only the other columns are read row by
+     * row using SuperCsv Library, which is skipped when every column is an {@code int} one.
+     *
+     * An empty {@code int} field is rejected, as an {@link IntColumn} cannot hold a missing value, an empty
+     * {@code double} field is read as {@link Double#NaN}, which sorts after every number, and an empty string field
+     * is read as the empty string, which sorts before every other string.
+     *
+     * @param fileName the name of the CSV file.
+     * @param columnTypes the {@link ColumnType} of every column of the file.
+     *
+     * @return the {@link Table} with the columns of the file, named after the header.
+     * @throws NumberFormatException if an {@code int} field is empty or not an {@code int}, or a {@code double}
+     * field is not a number.
+     * @throws Exception An exception is thrown where is there is a problem with reading of files.
+     */
+    public static Table readCsv(String fileName, ColumnType... columnTypes) throws Exception {
+        ICsvListReader listReader = null;
+        try {
+            listReader = new CsvListReader(new FileReader(fileName), CsvPreference.STANDARD_PREFERENCE);
+            String[] header = listReader.getHeader(true);
+            if (header == null) {
+                throw new IllegalArgumentException(fileName + " has no header");
+            }
+            if (header.length != columnTypes.length) {
+                throw new IllegalArgumentException(fileName + " has " + header.length + " columns but "
+                        + columnTypes.length + " column types were given");
+            }
+
+            int[][] intValues = new int[columnTypes.length][];
+            double[][] doubleValues = new double[columnTypes.length][];
+            StringColumn.Builder[] stringValues = new StringColumn.Builder[columnTypes.length];
+            boolean rowByRow = false;
+            for (int column = 0; column < columnTypes.length; column++) {
+                switch (columnTypes[column]) {
+                    case INT:
+                        intValues[column] = new CsvColumnReader(column).read(Paths.get(fileName));
+                        break;
+                    case DOUBLE:
+                        doubleValues[column] = new double[1024];
+                        rowByRow = true;
+                        break;
+                    default:
+                        stringValues[column] = new StringColumn.Builder();
+                        rowByRow = true;
+                }
+            }
+
+            int rows = 0;
+            List<String> row;
+            while (rowByRow && (row = listReader.read()) != null) {
+                if (row.size() != columnTypes.length) {
+                    throw new IllegalArgumentException("Line " + listReader.getLineNumber() + " of " + fileName
+                            + " has " + row.size() + " columns instead of " + columnTypes.length);
+                }
+                for (int column = 0; column < columnTypes.length; column++) {
+                    // SuperCsv reads an empty field as null
+                    String value = row.get(column);
+                    switch (columnTypes[column]) {
+                        case INT:
+                            break;
+                        case DOUBLE:
+                            if (rows == doubleValues[column].length) {
+                                doubleValues[column] = Arrays.copyOf(doubleValues[column], rows * 2);
+                            }
+                            doubleValues[column][rows] = value == null || value.trim().isEmpty()
+                                    ? Double.NaN : Double.parseDouble(value);
+                            break;
+                        default:
+                            stringValues[column].add(value == null ? "" : value);
+                    }
+                }
+                rows++;
+            }
+
+            Map<String, Column> columns = new LinkedHashMap<>();
+            for (int column = 0; column < columnTypes.length; column++) {
+                switch (columnTypes[column]) {
+                    case INT:
+                        columns.put(header[column], new IntColumn(intValues[column]));
+                        break;
+                    case DOUBLE:
+                        columns.put(header[column], new DoubleColumn(Arrays.copyOf(doubleValues[column], rows)));
+                        break;
+                    default:
+                        columns.put(header[column], stringValues[column].build());
+                }
+            }
+            return new Table(columns);
+
+        } finally {
+            if( listReader != null ) {
+                listReader.close();
+            }
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public Set<String> getColumnNames() {
+        return columns.keySet();
+    }
+
+    /**
+     * Gets a column by its name.
+     *
+     * @param columnName the name of the column.
+     *
+     * @return the {@link Column}.
+     */
+    public Column getColumn(String columnName) {
+        Column column = columns.get(columnName);
+        if (column == null) {
+            throw new IllegalArgumentException("No column named " + columnName + " in " + columns.keySet());
+        }
+        return column;
+    }
+
+    /**
+     * Gets the permutation of the rows that sorts the table by the given columns with {@link RadixArgSort}.
+     *
+     * @param columnNames the names of the columns to sort by, the most significant first.
+     *
+     * @return the permutation of the rows.
+     */
+    public int[] orderBy(String... columnNames) {
+        return orderBy(new RadixArgSort(), columnNames);
+    }
+
+    /**
+     * Gets the permutation of the rows that sorts the table by the given columns. Rows equal in all of them keep
+     * their order.
+     *
+     * @param argSort the stable {@link ArgSort} to sort every column with.
+     * @param columnNames the names of the columns to sort by, the most significant first.
+     *
+     * @return the permutation of the rows.
+     */
+    public int[] orderBy(ArgSort argSort, String... columnNames) {
+        int[] permutation = Permutation.identity(rowCount);
+        for (int i = columnNames.length - 1; i >= 0; i--) {
+            permutation = getColumn(columnNames[i]).sortPermutation(argSort, permutation);
+        }
+        return permutation;
+    }
+
+    /**
+     * Gets the table sorted by the given columns.
+     *
+     * @param columnNames the names of the columns to sort by, the most significant first.
+     *
+     * @return the sorted {@link Table}.
+     */
+    public Table sortBy(String... columnNames) {
+        return reorder(orderBy(columnNames));
+    }
+
+    /**
+     * Gets the table with its rows reordered by the given permutation.
+     *
+     * @param permutation the permutation of the rows.
+     *
+     * @return the reordered {@link Table}.
+     */
+    public Table reorder(int[] permutation) {
+        Map<String, Column> reordered = new LinkedHashMap<>();
+        columns.forEach((columnName, column) -> reordered.put(columnName, column.reorder(permutation)));
+        return new Table(reordered);
+    }
+
+    /**
+     * Gets the table of the first rows.
+     *
+     * @param rows the number of rows to keep.
+     *
+     * @return the {@link Table} of the first rows.
+     */
+    public Table head(int rows) {
+        Map<String, Column> head = new LinkedHashMap<>();
+        columns.forEach((columnName, column) -> head.put(columnName, column.head(Math.min(rows, rowCount))));
+        return new Table(head);
+    }
+}
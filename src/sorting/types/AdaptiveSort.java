@@ -0,0 +1,184 @@
+package sorting.types;
+
+/**
+ * A sorting technique that picks the algorithm from cheap statistics of its input.
+ *
+ * A single pass counts the descents of the input, i.e. the boundaries between its ascending runs, reads its range
+ * and estimates its number of distinct values by linear counting over a small bitmap. The input is then sorted by
+ * <ul>
+ *     <li>{@link InsertionSort} if it is tiny,</li>
+ *     <li>{@link CountingSort} if its range is narrow or it has few distinct values,</li>
+ *     <li>{@link TimSort} if it consists of few runs, which it merges in linear time,</li>
+ *     <li>{@link RadixSort} if it is large and</li>
+ *     <li>{@link QuickSort} otherwise.</li>
+ * </ul>
+ * The default thresholds are estimates picked by hand, not measured crossover points, and the best values depend on
+ * the machine. To tune them, chart instances with other thresholds against each other, e.g. by listing
+ * {@code AdaptiveSort(16, 4096, 128)} next to {@code AdaptiveSort} in the algorithms of an experiment matrix. The
+ * choice of the last call is reported through {@link StrategyReporting}, so an instance should not be shared between
+ * threads.
+ */
+public class AdaptiveSort implements Sort, StrategyReporting {
+
+    /**
+     * The algorithms an input can be dispatched to.
+     */
+    public enum Choice {
+        INSERTION, COUNTING, TIM, RADIX, QUICK
+    }
+
+    /**
+     * The largest input sorted by insertion sort, an estimate of the size up to which it beats the other sorts.
+     */
+    public static final int DEFAULT_INSERTION_THRESHOLD = 32;
+
+    /**
+     * The smallest input sorted by radix sort, an estimate of the size from which its histograms pay off against
+     * quick sort.
+     */
+    public static final int DEFAULT_RADIX_THRESHOLD = 2048;
+
+    /**
+     * The input is sorted by {@link TimSort} if it has at most one run per this many elements, an estimate of the
+     * run length from which merging the runs beats sorting the input afresh.
+     */
+    public static final int DEFAULT_ELEMENTS_PER_RUN = 256;
+
+    /**
+     * The largest range counted by counting sort, relative to the size of the input.
+     */
+    private static final int COUNTING_RANGE_FACTOR = 2;
+
+    /**
+     * The most distinct values for which counting sort is chosen whatever the range.
+     */
+    private static final int COUNTING_DISTINCT_VALUES = 64;
+
+    private static final int BITMAP_BITS = 1024;
+
+    private final int insertionThreshold;
+    private final int radixThreshold;
+    private final int elementsPerRun;
+
+    private final Sort insertionSort = new InsertionSort();
+    private final Sort countingSort = new CountingSort();
+    private final Sort timSort = new TimSort();
+    private final Sort radixSort = new RadixSort();
+    private final Sort quickSort = new QuickSort();
+
+    private Choice lastChoice;
+
+    /**
+     * Creates an adaptive sort with the default thresholds.
+     */
+    public AdaptiveSort() {
+        this(DEFAULT_INSERTION_THRESHOLD, DEFAULT_RADIX_THRESHOLD, DEFAULT_ELEMENTS_PER_RUN);
+    }
+
+    /**
+     * Creates an adaptive sort, e.g. with thresholds tuned for another machine.
+     *
+     * @param insertionThreshold the largest input sorted by insertion sort.
+     * @param radixThreshold the smallest input sorted by radix sort.
+     * @param elementsPerRun the input is sorted by {@link TimSort} if it has at most one run per this many
+     *                       elements.
+     */
+    public AdaptiveSort(int insertionThreshold, int radixThreshold, int elementsPerRun) {
+        if (elementsPerRun < 1) {
+            throw new IllegalArgumentException("Elements per run must be positive: " + elementsPerRun);
+        }
+        this.insertionThreshold = insertionThreshold;
+        this.radixThreshold = radixThreshold;
+        this.elementsPerRun = elementsPerRun;
+    }
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        lastChoice = choose(inputArray);
+        switch (lastChoice) {
+            case INSERTION:
+                return insertionSort.sort(inputArray);
+            case COUNTING:
+                return countingSort.sort(inputArray);
+            case TIM:
+                return timSort.sort(inputArray);
+            case RADIX:
+                return radixSort.sort(inputArray);
+            default:
+                return quickSort.sort(inputArray);
+        }
+    }
+
+    /**
+     * Chooses the algorithm for the given input, in a single pass over it.
+     *
+     * @param inputArray the input array.
+     *
+     * @return the {@link Choice} of algorithm.
+     */
+    public Choice choose(int[] inputArray) {
+        int size = inputArray.length;
+        if (size <= insertionThreshold) {
+            return Choice.INSERTION;
+        }
+
+        int min = inputArray[0];
+        int max = inputArray[0];
+        int descents = 0;
+        long[] bitmap = new long[BITMAP_BITS / Long.SIZE];
+        SortCounters.allocate(BITMAP_BITS / Byte.SIZE);
+        int previous = inputArray[0];
+        for (int number : inputArray) {
+            if (SortCounters.compare(number < previous)) {
+                descents++;
+            }
+            if (SortCounters.compare(number < min)) {
+                min = number;
+            } else if (SortCounters.compare(number > max)) {
+                max = number;
+            }
+            int bit = hash(number) & (BITMAP_BITS - 1);
+            bitmap[bit >>> 6] |= 1L << bit;
+            previous = number;
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= (long) COUNTING_RANGE_FACTOR * size
+                || estimateDistinctValues(bitmap) <= COUNTING_DISTINCT_VALUES) {
+            return Choice.COUNTING;
+        }
+        if (descents + 1 <= size / elementsPerRun) {
+            return Choice.TIM;
+        }
+        return size >= radixThreshold ? Choice.RADIX : Choice.QUICK;
+    }
+
+    @Override
+    public String getLastStrategy() {
+        return lastChoice == null ? null : lastChoice.name();
+    }
+
+    /**
+     * Estimates the number of distinct values from the fraction of bits left unset, by linear counting.
+     */
+    private static double estimateDistinctValues(long[] bitmap) {
+        int unsetBits = 0;
+        for (long word : bitmap) {
+            unsetBits += Long.SIZE - Long.bitCount(word);
+        }
+        if (unsetBits == 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return BITMAP_BITS * Math.log((double) BITMAP_BITS / unsetBits);
+    }
+
+    private static int hash(int number) {
+        int h = number * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,52 @@
+package sorting.types;
+
+/**
+ * Argsort interface. Instead of sorting a key column it returns the permutation that sorts it, which
+ * {@link Permutation} then applies to every other column of the same records, so whole records are sorted without
+ * building row objects. Implementations must be stable: records with equal keys keep their relative order, which
+ * lets sorts by several keys be chained from the least to the most significant key.
+ */
+public interface ArgSort {
+
+    /**
+     * Gets the permutation that sorts the given keys.
+     *
+     * @param keys the key column, which is not modified.
+     *
+     * @return the permutation {@code p} such that {@code keys[p[0]] <= keys[p[1]] <= ...}.
+     */
+    default int[] argsort(int[] keys) {
+        return sortPermutation(keys, Permutation.identity(keys.length));
+    }
+
+    /**
+     * Gets the permutation that sorts the given keys.
+     *
+     * @param keys the key column, which is not modified.
+     *
+     * @return the permutation {@code p} such that {@code keys[p[0]] <= keys[p[1]] <= ...}.
+     */
+    default int[] argsort(long[] keys) {
+        return sortPermutation(keys, Permutation.identity(keys.length));
+    }
+
+    /**
+     * Stably reorders the given permutation by the keys it points to.
+     *
+     * @param keys the key column, which is not modified.
+     * @param permutation the indexes into the key column, reordered in place.
+     *
+     * @return the permutation, now ordered so that {@code keys[permutation[0]] <= keys[permutation[1]] <= ...}.
+     */
+    int[] sortPermutation(int[] keys, int[] permutation);
+
+    /**
+     * Stably reorders the given permutation by the keys it points to.
+     *
+     * @param keys the key column, which is not modified.
+     * @param permutation the indexes into the key column, reordered in place.
+     *
+     * @return the permutation, now ordered so that {@code keys[permutation[0]] <= keys[permutation[1]] <= ...}.
+     */
+    int[] sortPermutation(long[] keys, int[] permutation);
+}
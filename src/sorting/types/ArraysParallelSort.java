@@ -0,0 +1,22 @@
+package sorting.types;
+
+import java.util.Arrays;
+
+/**
+ * The JDK's {@link Arrays#parallelSort(int[])}, as the baseline for the parallel sorting techniques. Its operations
+ * happen inside the JDK, so {@link SortCounters} does not count them.
+ */
+public class ArraysParallelSort implements ParallelSort, UncountedSort {
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        Arrays.parallelSort(inputArray);
+
+        return inputArray;
+    }
+}
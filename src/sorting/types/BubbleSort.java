@@ -17,10 +17,11 @@ public class BubbleSort implements Sort {
             for (int j = 1; j < (inputArray.length - i); j++) {
                 // if the current number is less than the previous one, then
                 // swap the values
-                if (inputArray[j - 1] > inputArray[j]) {
+                if (SortCounters.compare(inputArray[j - 1] > inputArray[j])) {
                     temp = inputArray[j - 1];
                     inputArray[j - 1] = inputArray[j];
                     inputArray[j] = temp;
+                    SortCounters.moves(2);
                 }
             }
         }
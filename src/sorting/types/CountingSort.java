@@ -0,0 +1,190 @@
+package sorting.types;
+
+/**
+ * Implementation of Counting Sort, for inputs with a small range or few distinct values.
+ *
+ * One pass finds the range of the input and a sample estimates its number of distinct values. A range of at most
+ * twice the input size is counted in a dense array indexed by value. Otherwise, if the sample shows few distinct
+ * values, they are counted in a small open-addressing hash table and only the distinct values are sorted. Any
+ * other input falls back to {@link RadixSort}. The path taken is reported through {@link StrategyReporting}.
+ * An instance remembers its last path, so it should not be shared between threads.
+ */
+public class CountingSort implements Sort, StrategyReporting {
+
+    /**
+     * The ways an input can be sorted.
+     */
+    public enum Path {
+        /** Counted in an array covering the range of the input. */
+        DENSE,
+        /** Counted in a hash table holding one entry per distinct value. */
+        HASHED,
+        /** Sorted by {@link RadixSort}. */
+        FALLBACK
+    }
+
+    /**
+     * The largest range counted densely, relative to the size of the input.
+     */
+    private static final int DENSE_RANGE_FACTOR = 2;
+
+    /**
+     * The largest range counted densely, bounding the counts to 16 MB.
+     */
+    private static final int MAX_DENSE_RANGE = 1 << 22;
+
+    private static final int SAMPLE_SIZE = 1024;
+
+    /**
+     * The most distinct values in the sample for which the hashed path is tried.
+     */
+    private static final int MAX_SAMPLED_DISTINCT_VALUES = 64;
+
+    /**
+     * The most distinct values the hashed path can hold before it gives up.
+     */
+    private static final int MAX_HASHED_DISTINCT_VALUES = 4096;
+
+    private Path lastPath;
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        int min = inputArray[0];
+        int max = inputArray[0];
+        for (int number : inputArray) {
+            if (SortCounters.compare(number < min)) {
+                min = number;
+            } else if (SortCounters.compare(number > max)) {
+                max = number;
+            }
+        }
+
+        long range = (long) max - min + 1;
+        if (range <= MAX_DENSE_RANGE && range <= (long) DENSE_RANGE_FACTOR * inputArray.length) {
+            denseCountingSort(inputArray, min, (int) range);
+            lastPath = Path.DENSE;
+        } else if (countSampledDistinctValues(inputArray) <= MAX_SAMPLED_DISTINCT_VALUES
+                && hashedCountingSort(inputArray)) {
+            lastPath = Path.HASHED;
+        } else {
+            SortCounters.allocate((long) Integer.BYTES * inputArray.length);
+            RadixSort.radixSort(inputArray, new int[inputArray.length]);
+            lastPath = Path.FALLBACK;
+        }
+
+        return inputArray;
+    }
+
+    @Override
+    public String getLastStrategy() {
+        return lastPath == null ? null : lastPath.name();
+    }
+
+    private static void denseCountingSort(int[] inputArray, int min, int range) {
+        int[] counts = new int[range];
+        SortCounters.allocate((long) Integer.BYTES * range);
+        for (int number : inputArray) {
+            counts[number - min]++;
+        }
+
+        int k = 0;
+        for (int offset = 0; offset < range; offset++) {
+            for (int count = counts[offset]; count > 0; count--) {
+                inputArray[k++] = min + offset;
+            }
+        }
+        SortCounters.moves(k);
+    }
+
+    /**
+     * Counts the distinct values among up to {@link #SAMPLE_SIZE} elements spread evenly over the input.
+     */
+    private static int countSampledDistinctValues(int[] inputArray) {
+        int step = Math.max(1, inputArray.length / SAMPLE_SIZE);
+        int[] slots = new int[2 * SAMPLE_SIZE];
+        boolean[] used = new boolean[slots.length];
+        SortCounters.allocate((long) (Integer.BYTES + 1) * slots.length);
+        int mask = slots.length - 1;
+        int distinctValues = 0;
+        for (int i = 0; i < inputArray.length; i += step) {
+            int number = inputArray[i];
+            int slot = hash(number) & mask;
+            while (used[slot] && slots[slot] != number) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                used[slot] = true;
+                slots[slot] = number;
+                distinctValues++;
+            }
+        }
+        return distinctValues;
+    }
+
+    /**
+     * Sorts the input by counting every distinct value in a hash table.
+     *
+     * @return {@code false} without modifying the input if it has more than {@link #MAX_HASHED_DISTINCT_VALUES}
+     * distinct values.
+     */
+    private static boolean hashedCountingSort(int[] inputArray) {
+        int[] keys = new int[2 * MAX_HASHED_DISTINCT_VALUES];
+        int[] counts = new int[keys.length];
+        SortCounters.allocate((long) Integer.BYTES * (keys.length + counts.length));
+        int mask = keys.length - 1;
+        int distinctValues = 0;
+        for (int number : inputArray) {
+            int slot = hash(number) & mask;
+            while (counts[slot] != 0 && keys[slot] != number) {
+                slot = (slot + 1) & mask;
+            }
+            if (counts[slot] == 0) {
+                if (distinctValues == MAX_HASHED_DISTINCT_VALUES) {
+                    return false;
+                }
+                keys[slot] = number;
+                distinctValues++;
+            }
+            counts[slot]++;
+        }
+
+        // Sort the distinct values together with the slot holding their count
+        int[] distinctKeys = new int[distinctValues];
+        int[] distinctSlots = new int[distinctValues];
+        SortCounters.allocate((long) Integer.BYTES * (distinctKeys.length + distinctSlots.length));
+        int d = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (counts[slot] != 0) {
+                int j = d - 1;
+                while (j >= 0 && SortCounters.compare(distinctKeys[j] > keys[slot])) {
+                    distinctKeys[j + 1] = distinctKeys[j];
+                    distinctSlots[j + 1] = distinctSlots[j];
+                    j--;
+                }
+                distinctKeys[j + 1] = keys[slot];
+                distinctSlots[j + 1] = slot;
+                SortCounters.moves(d - j);
+                d++;
+            }
+        }
+
+        int k = 0;
+        for (int i = 0; i < distinctValues; i++) {
+            for (int count = counts[distinctSlots[i]]; count > 0; count--) {
+                inputArray[k++] = distinctKeys[i];
+            }
+        }
+        SortCounters.moves(k);
+        return true;
+    }
+
+    private static int hash(int number) {
+        int h = number * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,51 @@
+package sorting.types;
+
+/**
+ * Implementation of LSD Radix Sort for {@code double} arrays, in the order of {@link Double#compare(double, double)}:
+ * {@code -0.0} before {@code 0.0} and every NaN at the end.
+ *
+ * The NaNs are moved to the end first and keep their bit patterns. Every other number is mapped to a {@code long}
+ * key whose signed order is the numeric order: the IEEE 754 bits of positive numbers already are, and flipping
+ * all but the sign bit of negative numbers reverses their order of magnitude. The keys are sorted by
+ * {@link LongRadixSort} and mapped back, as the mapping is its own inverse.
+ */
+public class DoubleRadixSort implements DoubleSort {
+
+    @Override
+    public double[] sort(double[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        // Move the NaNs to the end
+        int size = inputArray.length;
+        for (int i = size - 1; i >= 0; i--) {
+            double number = inputArray[i];
+            if (number != number) {
+                inputArray[i] = inputArray[--size];
+                inputArray[size] = number;
+                SortCounters.moves(2);
+            }
+        }
+
+        long[] keys = new long[size];
+        SortCounters.allocate((long) Long.BYTES * size);
+        for (int i = 0; i < size; i++) {
+            keys[i] = toSortableBits(Double.doubleToRawLongBits(inputArray[i]));
+        }
+        SortCounters.moves(size);
+        new LongRadixSort().sort(keys);
+        for (int i = 0; i < size; i++) {
+            inputArray[i] = Double.longBitsToDouble(toSortableBits(keys[i]));
+        }
+        SortCounters.moves(size);
+
+        return inputArray;
+    }
+
+    // Map the bits of a double to a long in the same order, and back
+    private static long toSortableBits(long bits) {
+        return bits ^ ((bits >> (Long.SIZE - 1)) & Long.MAX_VALUE);
+    }
+}
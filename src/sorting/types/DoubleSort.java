@@ -0,0 +1,8 @@
+package sorting.types;
+
+/**
+ * Sort interface for {@code double} arrays, the {@code double} counterpart of {@link Sort}.
+ */
+public interface DoubleSort {
+    double[] sort(double[] inputArray);
+}
@@ -0,0 +1,48 @@
+package sorting.types;
+
+/**
+ * Implementation of LSD Radix Sort for {@code float} arrays, in the order of {@link Float#compare(float, float)}:
+ * {@code -0.0f} before {@code 0.0f} and every NaN at the end.
+ *
+ * Works like {@link DoubleRadixSort}, with {@code int} keys sorted by {@link RadixSort}.
+ */
+public class FloatRadixSort implements FloatSort {
+
+    @Override
+    public float[] sort(float[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        // Move the NaNs to the end
+        int size = inputArray.length;
+        for (int i = size - 1; i >= 0; i--) {
+            float number = inputArray[i];
+            if (number != number) {
+                inputArray[i] = inputArray[--size];
+                inputArray[size] = number;
+                SortCounters.moves(2);
+            }
+        }
+
+        int[] keys = new int[size];
+        SortCounters.allocate((long) Integer.BYTES * size);
+        for (int i = 0; i < size; i++) {
+            keys[i] = toSortableBits(Float.floatToRawIntBits(inputArray[i]));
+        }
+        SortCounters.moves(size);
+        new RadixSort().sort(keys);
+        for (int i = 0; i < size; i++) {
+            inputArray[i] = Float.intBitsToFloat(toSortableBits(keys[i]));
+        }
+        SortCounters.moves(size);
+
+        return inputArray;
+    }
+
+    // Map the bits of a float to an int in the same order, and back
+    private static int toSortableBits(int bits) {
+        return bits ^ ((bits >> (Integer.SIZE - 1)) & Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,8 @@
+package sorting.types;
+
+/**
+ * Sort interface for {@code float} arrays, the {@code float} counterpart of {@link Sort}.
+ */
+public interface FloatSort {
+    float[] sort(float[] inputArray);
+}
@@ -0,0 +1,63 @@
+package sorting.types;
+
+/**
+ * Implementation of Heap Sort.
+ */
+public class HeapSort implements Sort {
+
+    /**
+     * Sorts the range {@code [low, high)} of the given array in O(n log n) time whatever the input, which makes it
+     * the fallback of {@link QuickSort} when partitioning keeps going wrong.
+     *
+     * @param arrayToSort the array to sort.
+     * @param low the index of the first element to sort, inclusive.
+     * @param high the index of the last element to sort, exclusive.
+     */
+    public static void heapSort(int[] arrayToSort, int low, int high) {
+        int size = high - low;
+
+        // Build a max heap bottom up
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(arrayToSort, low, i, size);
+        }
+
+        // Move the largest number to the end and restore the heap on the rest
+        for (int end = size - 1; end > 0; end--) {
+            int temp = arrayToSort[low];
+            arrayToSort[low] = arrayToSort[low + end];
+            arrayToSort[low + end] = temp;
+            SortCounters.moves(2);
+            siftDown(arrayToSort, low, 0, end);
+        }
+    }
+
+    private static void siftDown(int[] heap, int offset, int root, int size) {
+        int value = heap[offset + root];
+        int child;
+        while ((child = 2 * root + 1) < size) {
+            if (child + 1 < size && SortCounters.compare(heap[offset + child + 1] > heap[offset + child])) {
+                child++;
+            }
+            if (SortCounters.compare(heap[offset + child] <= value)) {
+                break;
+            }
+            heap[offset + root] = heap[offset + child];
+            SortCounters.moves(1);
+            root = child;
+        }
+        heap[offset + root] = value;
+        SortCounters.moves(1);
+    }
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        heapSort(inputArray, 0, inputArray.length);
+
+        return inputArray;
+    }
+}
@@ -18,13 +18,37 @@ public class InsertionSort implements Sort {
         for (int i = 1; i < inputArray.length; ++i) {
             int key = inputArray[i];
             int j = i - 1;
-            while (j >= 0 && inputArray[j] > key) {
+            while (j >= 0 && SortCounters.compare(inputArray[j] > key)) {
                 inputArray[j + 1] = inputArray[j];
                 j = j - 1;
             }
             inputArray[j + 1] = key;
+            // the shifted numbers and the key
+            SortCounters.moves(i - j);
         }
 
         return inputArray;
     }
+
+    /**
+     * Sorts the range {@code [low, high)} of the given array. The divide and conquer sorts use it for their small
+     * runs, where it beats further recursion.
+     *
+     * @param arrayToSort the array to sort.
+     * @param low the index of the first element to sort, inclusive.
+     * @param high the index of the last element to sort, exclusive.
+     */
+    public static void insertionSort(int[] arrayToSort, int low, int high) {
+        for (int i = low + 1; i < high; ++i) {
+            int key = arrayToSort[i];
+            int j = i - 1;
+            while (j >= low && SortCounters.compare(arrayToSort[j] > key)) {
+                arrayToSort[j + 1] = arrayToSort[j];
+                j = j - 1;
+            }
+            arrayToSort[j + 1] = key;
+            // the shifted numbers and the key
+            SortCounters.moves(i - j);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package sorting.types;
+
+/**
+ * Implementation of LSD Radix Sort for {@code long} arrays, see {@link RadixSort}. The eight 8-bit digits are
+ * counted in a single pass up front and the passes of digits shared by all numbers are skipped, which for
+ * timestamps and amounts with a narrow range leaves only a few passes.
+ */
+public class LongRadixSort implements LongSort {
+
+    /**
+     * Arrays of at most this many elements are sorted by insertion sort, as the histograms would cost more.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int DIGITS = Long.SIZE / DIGIT_BITS;
+
+    /**
+     * Sorts the given array, using the given buffer of at least the same length as the auxiliary space.
+     *
+     * @param arrayToSort the array to sort.
+     * @param buffer the auxiliary buffer, left in an unspecified state.
+     */
+    public static void radixSort(long[] arrayToSort, long[] buffer) {
+        int size = arrayToSort.length;
+        int[][] histograms = new int[DIGITS][RADIX];
+        SortCounters.allocate((long) Integer.BYTES * DIGITS * RADIX);
+        for (long number : arrayToSort) {
+            for (int digit = 0; digit < DIGITS; digit++) {
+                histograms[digit][digitOf(number, digit)]++;
+            }
+        }
+
+        long[] source = arrayToSort;
+        long[] destination = buffer;
+        for (int digit = 0; digit < DIGITS; digit++) {
+            int[] histogram = histograms[digit];
+            if (histogram[digitOf(source[0], digit)] == size) {
+                // every number has the same digit, this pass would not change the order
+                continue;
+            }
+
+            // Turn the counts into the start index of every bucket
+            int start = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = histogram[bucket];
+                histogram[bucket] = start;
+                start += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                long number = source[i];
+                destination[histogram[digitOf(number, digit)]++] = number;
+            }
+            SortCounters.moves(size);
+
+            long[] temp = source;
+            source = destination;
+            destination = temp;
+        }
+
+        if (source != arrayToSort) {
+            System.arraycopy(source, 0, arrayToSort, 0, size);
+            SortCounters.moves(size);
+        }
+    }
+
+    private static int digitOf(long number, int digit) {
+        long shifted = number >>> (digit * DIGIT_BITS);
+        if (digit == DIGITS - 1) {
+            // flip the sign bit so that negative numbers come first
+            shifted ^= RADIX >>> 1;
+        }
+        return (int) shifted & DIGIT_MASK;
+    }
+
+    @Override
+    public long[] sort(long[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        if (inputArray.length <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < inputArray.length; ++i) {
+                long key = inputArray[i];
+                int j = i - 1;
+                while (j >= 0 && SortCounters.compare(inputArray[j] > key)) {
+                    inputArray[j + 1] = inputArray[j];
+                    j = j - 1;
+                }
+                inputArray[j + 1] = key;
+                // the shifted numbers and the key
+                SortCounters.moves(i - j);
+            }
+            return inputArray;
+        }
+
+        SortCounters.allocate((long) Long.BYTES * inputArray.length);
+        radixSort(inputArray, new long[inputArray.length]);
+
+        return inputArray;
+    }
+}
@@ -0,0 +1,8 @@
+package sorting.types;
+
+/**
+ * Sort interface for {@code long} arrays, the {@code long} counterpart of {@link Sort}.
+ */
+public interface LongSort {
+    long[] sort(long[] inputArray);
+}
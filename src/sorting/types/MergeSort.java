@@ -2,44 +2,89 @@ package sorting.types;
 
 /**
  * Implementation of Merge Sort.
+ *
+ * The input array is sorted in place with a single auxiliary buffer allocated once per call. Instead of copying
+ * every run into a new array, each level of the recursion swaps the roles of the input array and the buffer, so
+ * that the halves sorted into one of them are merged straight into the other one.
  */
 public class MergeSort implements Sort {
-    public int[] sort(int[] arrayToSort, int low, int high){
-        //base case
-        if(low == high){
-            int[] oneElement = new int[]{arrayToSort[low]};
-            return oneElement;
-        }
 
-        //recursive case
-        int middle = low + (high - low) / 2;
-        int[] firstSortedArray = sort(arrayToSort, low, middle);
-        int[] secondSortedArray = sort(arrayToSort, middle + 1 , high) ;
-        return Merge(firstSortedArray, secondSortedArray);
+    /**
+     * Runs of at most this many elements are sorted by insertion sort.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 32;
 
+    /**
+     * Sorts {@code source[low, high)} into {@code destination[low, high)}. Both ranges must hold the same
+     * elements on entry; {@code source} is used as the buffer and is left in an unspecified order.
+     *
+     * @param source the array holding the elements to sort, used as the auxiliary buffer.
+     * @param destination the array to sort the elements into.
+     * @param low the index of the first element to sort, inclusive.
+     * @param high the index of the last element to sort, exclusive.
+     */
+    public static void mergeSort(int[] source, int[] destination, int low, int high) {
+        mergeSort(source, destination, low, high, 1);
     }
 
-    //code to merge the 2 halves of the array
-    public static int[] Merge(int[] Array1, int[] Array2){
-
-        int[] sortedArray = new int[Array1.length + Array2.length];
-        int k = 0;
-        int i = 0, j = 0;
-        while (i < Array1.length && j < Array2.length){
-            if(Array1[i] < Array2[j]){
-                sortedArray[k++] = Array1[i++];
-            }else{
-                sortedArray[k++] = Array2[j++];
-            }
+    /**
+     * Sorts {@code source[low, high)} into {@code destination[low, high)} as a call at the given depth of the
+     * recursion, see {@link #mergeSort(int[], int[], int, int)}.
+     *
+     * @param source the array holding the elements to sort, used as the auxiliary buffer.
+     * @param destination the array to sort the elements into.
+     * @param low the index of the first element to sort, inclusive.
+     * @param high the index of the last element to sort, exclusive.
+     * @param depth the depth of this call, the outermost call being at depth 1.
+     */
+    public static void mergeSort(int[] source, int[] destination, int low, int high, int depth) {
+        SortCounters.depth(depth);
+        //base case
+        if (high - low <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(destination, low, high);
+            return;
         }
 
-        while(i < Array1.length){
-            sortedArray[k++] = Array1[i++];
+        //recursive case, sorting both halves into the source so they can be merged into the destination
+        int middle = (low + high) >>> 1;
+        mergeSort(destination, source, low, middle, depth + 1);
+        mergeSort(destination, source, middle, high, depth + 1);
+        merge(source, destination, low, middle, high);
+    }
+
+    /**
+     * Merges the sorted runs {@code source[low, middle)} and {@code source[middle, high)} into
+     * {@code destination[low, high)}. Equal elements are taken from the first run, so the merge is stable.
+     *
+     * @param source the array holding both sorted runs.
+     * @param destination the array to merge the runs into.
+     * @param low the index of the first element of the first run, inclusive.
+     * @param middle the index of the first element of the second run.
+     * @param high the index of the last element of the second run, exclusive.
+     */
+    public static void merge(int[] source, int[] destination, int low, int middle, int high) {
+        // every number of both runs is written once into the destination
+        SortCounters.merge();
+        SortCounters.moves(high - low);
+
+        // the runs are already in order, which is common for partially sorted input
+        if (SortCounters.compare(source[middle - 1] <= source[middle])) {
+            System.arraycopy(source, low, destination, low, high - low);
+            return;
         }
-        while(j < Array2.length){
-            sortedArray[k++] = Array2[j++];
+
+        int i = low;
+        int j = middle;
+        int k = low;
+        while (i < middle && j < high) {
+            if (SortCounters.compare(source[j] < source[i])) {
+                destination[k++] = source[j++];
+            } else {
+                destination[k++] = source[i++];
+            }
         }
-        return sortedArray;
+        System.arraycopy(source, i, destination, k, middle - i);
+        System.arraycopy(source, j, destination, k + middle - i, high - j);
     }
 
     @Override
@@ -49,6 +94,11 @@ public class MergeSort implements Sort {
         if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
             return inputArray;
         }
-        return sort(inputArray, 0, inputArray.length - 1);
+
+        int[] buffer = inputArray.clone();
+        SortCounters.allocate((long) Integer.BYTES * buffer.length);
+        SortCounters.moves(buffer.length);
+        mergeSort(buffer, inputArray, 0, inputArray.length);
+        return inputArray;
     }
 }
@@ -0,0 +1,56 @@
+package sorting.types;
+
+/**
+ * The operations counted by {@link SortCounters} while sorting.
+ */
+public class OperationCounts {
+
+    private final long comparisons;
+    private final long moves;
+    private final long maxRecursionDepth;
+    private final long auxiliaryBytes;
+    private final long merges;
+
+    /**
+     * Creates the counts.
+     *
+     * @param comparisons the comparisons of elements.
+     * @param moves the elements written into the array to sort or a buffer.
+     * @param maxRecursionDepth the deepest nesting of recursive calls.
+     * @param auxiliaryBytes the bytes of auxiliary memory allocated.
+     * @param merges the merges of two sorted runs.
+     */
+    public OperationCounts(long comparisons, long moves, long maxRecursionDepth, long auxiliaryBytes, long merges) {
+        this.comparisons = comparisons;
+        this.moves = moves;
+        this.maxRecursionDepth = maxRecursionDepth;
+        this.auxiliaryBytes = auxiliaryBytes;
+        this.merges = merges;
+    }
+
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getMaxRecursionDepth() {
+        return maxRecursionDepth;
+    }
+
+    public long getAuxiliaryBytes() {
+        return auxiliaryBytes;
+    }
+
+    public long getMerges() {
+        return merges;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("comparisons=%d moves=%d depth=%d aux=%dB merges=%d",
+                comparisons, moves, maxRecursionDepth, auxiliaryBytes, merges);
+    }
+}
@@ -0,0 +1,219 @@
+package sorting.types;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of a parallel Merge Sort on a {@link ForkJoinPool}.
+ *
+ * Like {@link MergeSort} it alternates the roles of the input array and a single auxiliary buffer. Both halves of
+ * a range are sorted in parallel, and the merge itself is parallel too: the longer run is split at its middle
+ * element, the shorter one at the matching position found by binary search, and both pairs are merged at once.
+ * Ranges of at most the sequential threshold are handed to the sequential {@link MergeSort}.
+ */
+public class ParallelMergeSort implements ParallelSort {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool forkJoinPool;
+    private final int sequentialThreshold;
+    private final boolean ownsPool;
+
+    /**
+     * Creates a parallel merge sort on the common {@link ForkJoinPool} with the default sequential threshold.
+     */
+    public ParallelMergeSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel merge sort on a dedicated {@link ForkJoinPool}, which is shut down when the sort is
+     * closed.
+     *
+     * @param parallelism the number of worker threads.
+     * @param sequentialThreshold the size of the ranges below which the sort runs sequentially.
+     */
+    public ParallelMergeSort(int parallelism, int sequentialThreshold) {
+        this(new ForkJoinPool(parallelism), sequentialThreshold, true);
+    }
+
+    /**
+     * Creates a parallel merge sort on a pool owned by the caller, which closing the sort leaves running.
+     *
+     * @param forkJoinPool the {@link ForkJoinPool} to sort in.
+     * @param sequentialThreshold the size of the ranges below which the sort runs sequentially.
+     */
+    public ParallelMergeSort(ForkJoinPool forkJoinPool, int sequentialThreshold) {
+        this(forkJoinPool, sequentialThreshold, false);
+    }
+
+    private ParallelMergeSort(ForkJoinPool forkJoinPool, int sequentialThreshold, boolean ownsPool) {
+        if (sequentialThreshold < 2) {
+            throw new IllegalArgumentException("Sequential threshold must be at least 2: " + sequentialThreshold);
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.ownsPool = ownsPool;
+    }
+
+    public int getParallelism() {
+        return forkJoinPool.getParallelism();
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        int[] buffer = inputArray.clone();
+        SortCounters.allocate((long) Integer.BYTES * buffer.length);
+        SortCounters.moves(buffer.length);
+        forkJoinPool.invoke(new SortTask(buffer, inputArray, 0, inputArray.length, 1));
+        return inputArray;
+    }
+
+    /**
+     * Sorts {@code source[low, high)} into {@code destination[low, high)}, see
+     * {@link MergeSort#mergeSort(int[], int[], int, int)}.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int[] destination;
+        private final int low;
+        private final int high;
+        private final int depth;
+
+        SortTask(int[] source, int[] destination, int low, int high, int depth) {
+            this.source = source;
+            this.destination = destination;
+            this.low = low;
+            this.high = high;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            SortCounters.depth(depth);
+            if (high - low <= sequentialThreshold) {
+                MergeSort.mergeSort(source, destination, low, high, depth + 1);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new SortTask(destination, source, low, middle, depth + 1),
+                      new SortTask(destination, source, middle, high, depth + 1));
+            // the merge tasks only merge pieces of this one merge
+            SortCounters.merge();
+            new MergeTask(source, destination, low, middle, middle, high, low).compute();
+        }
+    }
+
+    /**
+     * Merges the sorted runs {@code source[low1, high1)} and {@code source[low2, high2)} into
+     * {@code destination} starting at {@code destinationLow}. Equal elements are taken from the first run.
+     */
+    private final class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] source;
+        private final int[] destination;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int destinationLow;
+
+        MergeTask(int[] source, int[] destination, int low1, int high1, int low2, int high2, int destinationLow) {
+            this.source = source;
+            this.destination = destination;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.destinationLow = destinationLow;
+        }
+
+        @Override
+        protected void compute() {
+            int size1 = high1 - low1;
+            int size2 = high2 - low2;
+            if (size1 + size2 <= sequentialThreshold || size1 == 0 || size2 == 0) {
+                merge(source, destination, low1, high1, low2, high2, destinationLow);
+                return;
+            }
+
+            int split1;
+            int split2;
+            if (size1 >= size2) {
+                // everything before split1 is at most the middle element, so is everything before split2
+                split1 = (low1 + high1) >>> 1;
+                split2 = lowerBound(source, low2, high2, source[split1]);
+            } else {
+                split2 = (low2 + high2) >>> 1;
+                split1 = upperBound(source, low1, high1, source[split2]);
+            }
+            int destinationSplit = destinationLow + (split1 - low1) + (split2 - low2);
+            invokeAll(new MergeTask(source, destination, low1, split1, low2, split2, destinationLow),
+                      new MergeTask(source, destination, split1, high1, split2, high2, destinationSplit));
+        }
+    }
+
+    private static void merge(int[] source, int[] destination,
+                              int low1, int high1, int low2, int high2, int destinationLow) {
+        int i = low1;
+        int j = low2;
+        int k = destinationLow;
+        SortCounters.moves((high1 - low1) + (high2 - low2));
+        while (i < high1 && j < high2) {
+            if (SortCounters.compare(source[j] < source[i])) {
+                destination[k++] = source[j++];
+            } else {
+                destination[k++] = source[i++];
+            }
+        }
+        System.arraycopy(source, i, destination, k, high1 - i);
+        System.arraycopy(source, j, destination, k + high1 - i, high2 - j);
+    }
+
+    // Find the first index in [low, high) whose number is not less than the key
+    private static int lowerBound(int[] sortedArray, int low, int high, int key) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (SortCounters.compare(sortedArray[middle] < key)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // Find the first index in [low, high) whose number is greater than the key
+    private static int upperBound(int[] sortedArray, int low, int high, int key) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (SortCounters.compare(sortedArray[middle] <= key)) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
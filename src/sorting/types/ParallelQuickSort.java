@@ -0,0 +1,139 @@
+package sorting.types;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Implementation of a parallel Quick Sort on a {@link ForkJoinPool}.
+ *
+ * Ranges above the sequential threshold are partitioned three-way around the same pivot as {@link QuickSort},
+ * and both sides are sorted as parallel tasks. Ranges of at most the threshold, and ranges past the depth limit of
+ * {@link QuickSort}, are handed to the sequential {@link QuickSort}, which falls back to {@link HeapSort} itself.
+ */
+public class ParallelQuickSort implements ParallelSort {
+
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    private final ForkJoinPool forkJoinPool;
+    private final int sequentialThreshold;
+    private final boolean ownsPool;
+
+    /**
+     * Creates a parallel quick sort on the common {@link ForkJoinPool} with the default sequential threshold.
+     */
+    public ParallelQuickSort() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SEQUENTIAL_THRESHOLD);
+    }
+
+    /**
+     * Creates a parallel quick sort on a dedicated {@link ForkJoinPool}, which is shut down when the sort is
+     * closed.
+     *
+     * @param parallelism the number of worker threads.
+     * @param sequentialThreshold the size of the ranges below which the sort runs sequentially.
+     */
+    public ParallelQuickSort(int parallelism, int sequentialThreshold) {
+        this(new ForkJoinPool(parallelism), sequentialThreshold, true);
+    }
+
+    /**
+     * Creates a parallel quick sort on a pool owned by the caller, which closing the sort leaves running.
+     *
+     * @param forkJoinPool the {@link ForkJoinPool} to sort in.
+     * @param sequentialThreshold the size of the ranges below which the sort runs sequentially.
+     */
+    public ParallelQuickSort(ForkJoinPool forkJoinPool, int sequentialThreshold) {
+        this(forkJoinPool, sequentialThreshold, false);
+    }
+
+    private ParallelQuickSort(ForkJoinPool forkJoinPool, int sequentialThreshold, boolean ownsPool) {
+        if (sequentialThreshold < 2) {
+            throw new IllegalArgumentException("Sequential threshold must be at least 2: " + sequentialThreshold);
+        }
+        this.forkJoinPool = forkJoinPool;
+        this.sequentialThreshold = sequentialThreshold;
+        this.ownsPool = ownsPool;
+    }
+
+    public int getParallelism() {
+        return forkJoinPool.getParallelism();
+    }
+
+    public int getSequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            forkJoinPool.shutdown();
+        }
+    }
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        int depthLimit = QuickSort.depthLimit(inputArray.length);
+        forkJoinPool.invoke(new SortTask(inputArray, 0, inputArray.length, depthLimit, 1));
+        return inputArray;
+    }
+
+    /**
+     * Sorts {@code arrayToSort[low, high)}.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arrayToSort;
+        private final int low;
+        private final int high;
+        private final int depthLimit;
+        private final int depth;
+
+        SortTask(int[] arrayToSort, int low, int high, int depthLimit, int depth) {
+            this.arrayToSort = arrayToSort;
+            this.low = low;
+            this.high = high;
+            this.depthLimit = depthLimit;
+            this.depth = depth;
+        }
+
+        @Override
+        protected void compute() {
+            SortCounters.depth(depth);
+            if (high - low <= sequentialThreshold || depthLimit == 0) {
+                QuickSort.introSort(arrayToSort, low, high, depthLimit, depth + 1);
+                return;
+            }
+
+            // Partition into [low, lessThan) < pivot, [lessThan, greaterThan] == pivot
+            // and (greaterThan, high) > pivot
+            int pivot = QuickSort.selectPivot(arrayToSort, low, high);
+            int lessThan = low;
+            int greaterThan = high - 1;
+            int i = low;
+            while (i <= greaterThan) {
+                int current = arrayToSort[i];
+                if (SortCounters.compare(current < pivot)) {
+                    arrayToSort[i++] = arrayToSort[lessThan];
+                    arrayToSort[lessThan++] = current;
+                    SortCounters.moves(2);
+                } else if (SortCounters.compare(current > pivot)) {
+                    arrayToSort[i] = arrayToSort[greaterThan];
+                    arrayToSort[greaterThan--] = current;
+                    SortCounters.moves(2);
+                } else {
+                    i++;
+                }
+            }
+
+            invokeAll(new SortTask(arrayToSort, low, lessThan, depthLimit - 1, depth + 1),
+                      new SortTask(arrayToSort, greaterThan + 1, high, depthLimit - 1, depth + 1));
+        }
+    }
+}
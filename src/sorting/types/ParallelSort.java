@@ -0,0 +1,16 @@
+package sorting.types;
+
+/**
+ * Implemented by the sorting techniques that sort on several cores, so that the simulation measures them alone
+ * rather than next to other measurements. A parallel sort owning its threads releases them when it is closed;
+ * one sorting on shared threads, like the common {@link java.util.concurrent.ForkJoinPool}, has nothing to close.
+ */
+public interface ParallelSort extends Sort, AutoCloseable {
+
+    /**
+     * Shuts down the threads owned by the sort, which must not be used afterwards.
+     */
+    @Override
+    default void close() {
+    }
+}
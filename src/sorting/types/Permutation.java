@@ -0,0 +1,136 @@
+package sorting.types;
+
+import java.util.Arrays;
+
+/**
+ * Applies the permutations returned by an {@link ArgSort} to the columns of a dataset. Every column is reordered in
+ * a single pass that gathers its elements in the order of the permutation, with no boxing.
+ */
+public final class Permutation {
+
+    private Permutation() {
+    }
+
+    /**
+     * Gets the identity permutation.
+     *
+     * @param size the size of the permutation.
+     *
+     * @return the array {@code [0, 1, ..., size - 1]}.
+     */
+    public static int[] identity(int size) {
+        int[] permutation = new int[size];
+        for (int i = 0; i < size; i++) {
+            permutation[i] = i;
+        }
+        return permutation;
+    }
+
+    /**
+     * Gets the inverse of a permutation, i.e. the position every element was moved to.
+     *
+     * @param permutation the permutation.
+     *
+     * @return the inverse permutation.
+     */
+    public static int[] inverse(int[] permutation) {
+        int[] inverse = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            inverse[permutation[i]] = i;
+        }
+        return inverse;
+    }
+
+    /**
+     * Reorders a column by the given permutation.
+     *
+     * @param permutation the permutation.
+     * @param column the column, which is not modified.
+     *
+     * @return the reordered column, with {@code column[permutation[i]]} at index {@code i}.
+     */
+    public static int[] apply(int[] permutation, int[] column) {
+        checkSize(permutation, column.length);
+        int[] reordered = new int[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = column[permutation[i]];
+        }
+        return reordered;
+    }
+
+    /**
+     * Reorders a column by the given permutation.
+     *
+     * @param permutation the permutation.
+     * @param column the column, which is not modified.
+     *
+     * @return the reordered column, with {@code column[permutation[i]]} at index {@code i}.
+     */
+    public static long[] apply(int[] permutation, long[] column) {
+        checkSize(permutation, column.length);
+        long[] reordered = new long[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = column[permutation[i]];
+        }
+        return reordered;
+    }
+
+    /**
+     * Reorders a column by the given permutation.
+     *
+     * @param permutation the permutation.
+     * @param column the column, which is not modified.
+     *
+     * @return the reordered column, with {@code column[permutation[i]]} at index {@code i}.
+     */
+    public static double[] apply(int[] permutation, double[] column) {
+        checkSize(permutation, column.length);
+        double[] reordered = new double[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = column[permutation[i]];
+        }
+        return reordered;
+    }
+
+    /**
+     * Reorders a column by the given permutation.
+     *
+     * @param permutation the permutation.
+     * @param column the column, which is not modified.
+     *
+     * @return the reordered column, with {@code column[permutation[i]]} at index {@code i}.
+     */
+    public static float[] apply(int[] permutation, float[] column) {
+        checkSize(permutation, column.length);
+        float[] reordered = new float[permutation.length];
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = column[permutation[i]];
+        }
+        return reordered;
+    }
+
+    /**
+     * Reorders a column of references, e.g. strings, by the given permutation.
+     *
+     * @param permutation the permutation.
+     * @param column the column, which is not modified.
+     * @param <T> the type of the elements of the column.
+     *
+     * @return the reordered column, with {@code column[permutation[i]]} at index {@code i}.
+     */
+    public static <T> T[] apply(int[] permutation, T[] column) {
+        checkSize(permutation, column.length);
+        T[] reordered = Arrays.copyOf(column, permutation.length);
+        for (int i = 0; i < permutation.length; i++) {
+            reordered[i] = column[permutation[i]];
+        }
+        return reordered;
+    }
+
+    private static void checkSize(int[] permutation, int sizeOfColumn) {
+        if (permutation.length != sizeOfColumn) {
+            throw new IllegalArgumentException("Permutation of size " + permutation.length
+                    + " does not match column of size " + sizeOfColumn);
+        }
+    }
+}
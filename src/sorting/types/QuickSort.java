@@ -2,40 +2,107 @@ package sorting.types;
 
 /**
  * Implementation of Quick Sort Sort.
+ *
+ * The pivot is the median of three elements, or for large ranges the ninther, the median of three such medians.
+ * Partitioning is three-way, so runs of keys equal to the pivot are excluded from both sides and inputs with
+ * few distinct values sort in linear time. Only the smaller side is sorted recursively, which bounds the stack
+ * depth to log n, and once the recursion gets deeper than 2 log n the range is handed to {@link HeapSort}, which
+ * rules out the quadratic worst case.
  */
 public class QuickSort implements Sort {
 
-    // Find pivot i.e an index where all numbers to the left are lesser than
-    // pivot and all numbers to the right are greater
-    public int partition(int arrayToSort[], int left, int right) {
-        int i = left, j = right;
-        int tmp;
-        int pivot = arrayToSort[(left + right) / 2];
-
-        while (i <= j) {
-            while (arrayToSort[i] < pivot)
-                i++;
-            while (arrayToSort[j] > pivot)
-                j--;
-            if (i <= j) {
-                tmp = arrayToSort[i];
-                arrayToSort[i] = arrayToSort[j];
-                arrayToSort[j] = tmp;
-                i++;
-                j--;
+    /**
+     * Ranges of at most this many elements are sorted by insertion sort.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 24;
+
+    /**
+     * Ranges of more than this many elements take the ninther as the pivot.
+     */
+    private static final int NINTHER_THRESHOLD = 128;
+
+    // Find the median of the three numbers at the given indexes, returning its index
+    private static int medianOfThree(int arrayToSort[], int i, int j, int k) {
+        if (SortCounters.compare(arrayToSort[i] < arrayToSort[j])) {
+            if (SortCounters.compare(arrayToSort[j] < arrayToSort[k])) {
+                return j;
             }
+            return SortCounters.compare(arrayToSort[i] < arrayToSort[k]) ? k : i;
+        }
+        if (SortCounters.compare(arrayToSort[i] < arrayToSort[k])) {
+            return i;
         }
+        return SortCounters.compare(arrayToSort[j] < arrayToSort[k]) ? k : j;
+    }
+
+    // Find the pivot of the range [low, high)
+    static int selectPivot(int arrayToSort[], int low, int high) {
+        int size = high - low;
+        int middle = low + size / 2;
+        if (size > NINTHER_THRESHOLD) {
+            int step = size / 8;
+            int first = medianOfThree(arrayToSort, low, low + step, low + 2 * step);
+            int second = medianOfThree(arrayToSort, middle - step, middle, middle + step);
+            int third = medianOfThree(arrayToSort, high - 1 - 2 * step, high - 1 - step, high - 1);
+            return arrayToSort[medianOfThree(arrayToSort, first, second, third)];
+        }
+        return arrayToSort[medianOfThree(arrayToSort, low, middle, high - 1)];
+    }
+
+    private static void swap(int arrayToSort[], int i, int j) {
+        int tmp = arrayToSort[i];
+        arrayToSort[i] = arrayToSort[j];
+        arrayToSort[j] = tmp;
+        SortCounters.moves(2);
+    }
 
-        return i;
+    // Find the depth after which the sort of a range of the given size falls back to heap sort
+    static int depthLimit(int size) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(size));
+    }
+
+    // Sort the range [low, high) as a call at the given depth of the recursion, falling back to heap sort once
+    // depthLimit partitions did not finish it
+    static void introSort(int arrayToSort[], int low, int high, int depthLimit, int depth) {
+        SortCounters.depth(depth);
+        while (high - low > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit == 0) {
+                HeapSort.heapSort(arrayToSort, low, high);
+                return;
+            }
+            depthLimit--;
+
+            // Partition into [low, lessThan) < pivot, [lessThan, greaterThan] == pivot
+            // and (greaterThan, high) > pivot
+            int pivot = selectPivot(arrayToSort, low, high);
+            int lessThan = low;
+            int greaterThan = high - 1;
+            int i = low;
+            while (i <= greaterThan) {
+                if (SortCounters.compare(arrayToSort[i] < pivot)) {
+                    swap(arrayToSort, lessThan++, i++);
+                } else if (SortCounters.compare(arrayToSort[i] > pivot)) {
+                    swap(arrayToSort, i, greaterThan--);
+                } else {
+                    i++;
+                }
+            }
+
+            // Recurse on the smaller side and continue with the larger one
+            if (lessThan - low < high - greaterThan - 1) {
+                introSort(arrayToSort, low, lessThan, depthLimit, depth + 1);
+                low = greaterThan + 1;
+            } else {
+                introSort(arrayToSort, greaterThan + 1, high, depthLimit, depth + 1);
+                high = lessThan;
+            }
+        }
+        InsertionSort.insertionSort(arrayToSort, low, high);
     }
 
-    // Find pivot and recursvely call quicksort on two halves
+    // Sort the numbers between the left and right index, both inclusive
     public void quickSort(int arr[], int left, int right) {
-        int index = partition(arr, left, right);
-        if (left < index - 1)
-            quickSort(arr, left, index - 1);
-        if (index < right)
-            quickSort(arr, index, right);
+        introSort(arr, left, right + 1, depthLimit(right - left + 1), 1);
     }
 
     @Override
@@ -50,4 +117,4 @@ public class QuickSort implements Sort {
 
         return inputArray;
     }
-}
\ No newline at end of file
+}
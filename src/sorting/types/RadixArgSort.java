@@ -0,0 +1,167 @@
+package sorting.types;
+
+/**
+ * Implementation of {@link ArgSort} by LSD Radix Sort, see {@link RadixSort}.
+ *
+ * The keys are gathered in the order of the permutation, then keys and indexes are distributed together by one
+ * 8-bit digit at a time between two pairs of buffers. Every pass is stable, which makes the whole sort stable, and
+ * passes of digits shared by all keys are skipped. Small inputs are sorted by insertion sort, which is stable too.
+ */
+public class RadixArgSort implements ArgSort {
+
+    /**
+     * Inputs of at most this many elements are sorted by insertion sort, as the histograms would cost more.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+
+    @Override
+    public int[] sortPermutation(int[] keys, int[] permutation) {
+        int size = permutation.length;
+        int[] sourceKeys = new int[size];
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = keys[permutation[i]];
+        }
+
+        if (size <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < size; i++) {
+                int key = sourceKeys[i];
+                int index = permutation[i];
+                int j = i - 1;
+                while (j >= 0 && sourceKeys[j] > key) {
+                    sourceKeys[j + 1] = sourceKeys[j];
+                    permutation[j + 1] = permutation[j];
+                    j--;
+                }
+                sourceKeys[j + 1] = key;
+                permutation[j + 1] = index;
+            }
+            return permutation;
+        }
+
+        int digits = Integer.SIZE / DIGIT_BITS;
+        int[][] histograms = new int[digits][RADIX];
+        for (int key : sourceKeys) {
+            for (int digit = 0; digit < digits; digit++) {
+                histograms[digit][digitOf(key, digit, digits)]++;
+            }
+        }
+
+        int[] sourceIndexes = permutation;
+        int[] destinationKeys = new int[size];
+        int[] destinationIndexes = new int[size];
+        for (int digit = 0; digit < digits; digit++) {
+            int[] histogram = histograms[digit];
+            if (histogram[digitOf(sourceKeys[0], digit, digits)] == size) {
+                // every key has the same digit, this pass would not change the order
+                continue;
+            }
+            toBucketStarts(histogram);
+
+            for (int i = 0; i < size; i++) {
+                int key = sourceKeys[i];
+                int position = histogram[digitOf(key, digit, digits)]++;
+                destinationKeys[position] = key;
+                destinationIndexes[position] = sourceIndexes[i];
+            }
+
+            int[] temp = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = temp;
+            temp = sourceIndexes;
+            sourceIndexes = destinationIndexes;
+            destinationIndexes = temp;
+        }
+
+        if (sourceIndexes != permutation) {
+            System.arraycopy(sourceIndexes, 0, permutation, 0, size);
+        }
+        return permutation;
+    }
+
+    @Override
+    public int[] sortPermutation(long[] keys, int[] permutation) {
+        int size = permutation.length;
+        long[] sourceKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            sourceKeys[i] = keys[permutation[i]];
+        }
+
+        if (size <= INSERTION_SORT_THRESHOLD) {
+            for (int i = 1; i < size; i++) {
+                long key = sourceKeys[i];
+                int index = permutation[i];
+                int j = i - 1;
+                while (j >= 0 && sourceKeys[j] > key) {
+                    sourceKeys[j + 1] = sourceKeys[j];
+                    permutation[j + 1] = permutation[j];
+                    j--;
+                }
+                sourceKeys[j + 1] = key;
+                permutation[j + 1] = index;
+            }
+            return permutation;
+        }
+
+        int digits = Long.SIZE / DIGIT_BITS;
+        int[][] histograms = new int[digits][RADIX];
+        for (long key : sourceKeys) {
+            for (int digit = 0; digit < digits; digit++) {
+                histograms[digit][digitOf(key, digit, digits)]++;
+            }
+        }
+
+        int[] sourceIndexes = permutation;
+        long[] destinationKeys = new long[size];
+        int[] destinationIndexes = new int[size];
+        for (int digit = 0; digit < digits; digit++) {
+            int[] histogram = histograms[digit];
+            if (histogram[digitOf(sourceKeys[0], digit, digits)] == size) {
+                // every key has the same digit, this pass would not change the order
+                continue;
+            }
+            toBucketStarts(histogram);
+
+            for (int i = 0; i < size; i++) {
+                long key = sourceKeys[i];
+                int position = histogram[digitOf(key, digit, digits)]++;
+                destinationKeys[position] = key;
+                destinationIndexes[position] = sourceIndexes[i];
+            }
+
+            long[] tempKeys = sourceKeys;
+            sourceKeys = destinationKeys;
+            destinationKeys = tempKeys;
+            int[] tempIndexes = sourceIndexes;
+            sourceIndexes = destinationIndexes;
+            destinationIndexes = tempIndexes;
+        }
+
+        if (sourceIndexes != permutation) {
+            System.arraycopy(sourceIndexes, 0, permutation, 0, size);
+        }
+        return permutation;
+    }
+
+    // Turn the counts of a histogram into the start index of every bucket
+    private static void toBucketStarts(int[] histogram) {
+        int start = 0;
+        for (int bucket = 0; bucket < RADIX; bucket++) {
+            int count = histogram[bucket];
+            histogram[bucket] = start;
+            start += count;
+        }
+    }
+
+    private static int digitOf(long key, int digit, int digits) {
+        long shifted = key >>> (digit * DIGIT_BITS);
+        if (digit == digits - 1) {
+            // flip the sign bit so that negative keys come first
+            shifted ^= RADIX >>> 1;
+        }
+        return (int) shifted & DIGIT_MASK;
+    }
+}
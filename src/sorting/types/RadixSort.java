@@ -0,0 +1,99 @@
+package sorting.types;
+
+/**
+ * Implementation of LSD Radix Sort.
+ *
+ * The numbers are distributed by one 8-bit digit at a time, from the least to the most significant one, between
+ * the input array and an auxiliary buffer. The histograms of all four digits are counted in a single pass up
+ * front, which also reveals the digits on which all numbers agree: their pass would not move anything and is
+ * skipped. The sign bit is flipped when reading the most significant digit, so negative numbers sort first.
+ */
+public class RadixSort implements Sort {
+
+    /**
+     * Arrays of at most this many elements are sorted by insertion sort, as the histograms would cost more.
+     */
+    public static final int INSERTION_SORT_THRESHOLD = 64;
+
+    private static final int DIGIT_BITS = 8;
+    private static final int RADIX = 1 << DIGIT_BITS;
+    private static final int DIGIT_MASK = RADIX - 1;
+    private static final int DIGITS = Integer.SIZE / DIGIT_BITS;
+
+    /**
+     * Sorts the given array, using the given buffer of at least the same length as the auxiliary space.
+     *
+     * @param arrayToSort the array to sort.
+     * @param buffer the auxiliary buffer, left in an unspecified state.
+     */
+    public static void radixSort(int[] arrayToSort, int[] buffer) {
+        int size = arrayToSort.length;
+        int[][] histograms = new int[DIGITS][RADIX];
+        SortCounters.allocate((long) Integer.BYTES * DIGITS * RADIX);
+        for (int number : arrayToSort) {
+            for (int digit = 0; digit < DIGITS; digit++) {
+                histograms[digit][digitOf(number, digit)]++;
+            }
+        }
+
+        int[] source = arrayToSort;
+        int[] destination = buffer;
+        for (int digit = 0; digit < DIGITS; digit++) {
+            int[] histogram = histograms[digit];
+            if (histogram[digitOf(source[0], digit)] == size) {
+                // every number has the same digit, this pass would not change the order
+                continue;
+            }
+
+            // Turn the counts into the start index of every bucket
+            int start = 0;
+            for (int bucket = 0; bucket < RADIX; bucket++) {
+                int count = histogram[bucket];
+                histogram[bucket] = start;
+                start += count;
+            }
+
+            for (int i = 0; i < size; i++) {
+                int number = source[i];
+                destination[histogram[digitOf(number, digit)]++] = number;
+            }
+            SortCounters.moves(size);
+
+            int[] temp = source;
+            source = destination;
+            destination = temp;
+        }
+
+        if (source != arrayToSort) {
+            System.arraycopy(source, 0, arrayToSort, 0, size);
+            SortCounters.moves(size);
+        }
+    }
+
+    private static int digitOf(int number, int digit) {
+        int shifted = number >>> (digit * DIGIT_BITS);
+        if (digit == DIGITS - 1) {
+            // flip the sign bit so that negative numbers come first
+            shifted ^= RADIX >>> 1;
+        }
+        return shifted & DIGIT_MASK;
+    }
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        if (inputArray.length <= INSERTION_SORT_THRESHOLD) {
+            InsertionSort.insertionSort(inputArray, 0, inputArray.length);
+            return inputArray;
+        }
+
+        SortCounters.allocate((long) Integer.BYTES * inputArray.length);
+        radixSort(inputArray, new int[inputArray.length]);
+
+        return inputArray;
+    }
+}
@@ -16,7 +16,7 @@ public class SelectionSort implements Sort {
             // Find minimum number in the array which is still not sorted
             int minIndex = i;
             for (int j = i + 1; j < inputArray.length; j++) {
-                if (inputArray[j] < inputArray[minIndex]) {
+                if (SortCounters.compare(inputArray[j] < inputArray[minIndex])) {
                     minIndex = j;
                 }
             }
@@ -26,6 +26,7 @@ public class SelectionSort implements Sort {
             int temp = inputArray[minIndex];
             inputArray[minIndex] = inputArray[i];
             inputArray[i] = temp;
+            SortCounters.moves(2);
         }
 
         return inputArray;
@@ -0,0 +1,123 @@
+package sorting.types;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The operation counters of the sorting techniques of this package: the comparisons and moves of elements, the
+ * depth of the recursion, the auxiliary memory allocated and the merges.
+ *
+ * Counting is off unless the JVM is started with {@code -Dsorting.counters=true}. The flag is a {@code static final}
+ * constant, and every counting method is a few bytes of bytecode guarded by it, so the JIT compiler is expected to
+ * inline them and drop the guarded code when counting is off. This has not been verified for every sort: compare the
+ * scores of {@code sorting.benchmark.CounterOverheadBenchmark} with counting off against the ones of
+ * {@code sorting.benchmark.SortBenchmark} before relying on it. When counting is on, the run times include the
+ * overhead of the counters and should not be compared with the ones of a run without them.
+ *
+ * The counters are shared by all threads, so the parallel sorts are counted as a whole, and only one sort may be
+ * counted at a time. The sorts whose operations happen outside this package implement {@link UncountedSort}.
+ */
+public final class SortCounters {
+
+    /**
+     * Whether the sorts count their operations, set by the {@code sorting.counters} system property.
+     */
+    public static final boolean ENABLED = Boolean.getBoolean("sorting.counters");
+
+    private static final LongAdder COMPARISONS = new LongAdder();
+    private static final LongAdder MOVES = new LongAdder();
+    private static final LongAdder AUXILIARY_BYTES = new LongAdder();
+    private static final LongAdder MERGES = new LongAdder();
+    private static final LongAccumulator MAX_DEPTH = new LongAccumulator(Math::max, 0);
+
+    private SortCounters() {
+    }
+
+    /**
+     * Counts one comparison of elements.
+     *
+     * @param result the result of the comparison.
+     *
+     * @return the result of the comparison, so that the comparison can be counted where it is made.
+     */
+    static boolean compare(boolean result) {
+        if (ENABLED) {
+            COMPARISONS.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Counts comparisons of elements made in bulk.
+     *
+     * @param comparisons the number of comparisons.
+     */
+    static void comparisons(long comparisons) {
+        if (ENABLED) {
+            COMPARISONS.add(comparisons);
+        }
+    }
+
+    /**
+     * Counts elements written into the array to sort or a buffer, a swap being two moves.
+     *
+     * @param moves the number of elements written.
+     */
+    static void moves(long moves) {
+        if (ENABLED) {
+            MOVES.add(moves);
+        }
+    }
+
+    /**
+     * Counts auxiliary memory allocated by a sort.
+     *
+     * @param bytes the bytes allocated.
+     */
+    static void allocate(long bytes) {
+        if (ENABLED) {
+            AUXILIARY_BYTES.add(bytes);
+        }
+    }
+
+    /**
+     * Counts one merge of two sorted runs.
+     */
+    static void merge() {
+        if (ENABLED) {
+            MERGES.increment();
+        }
+    }
+
+    /**
+     * Counts a recursive call at the given depth. The depth is passed down the recursion by the sorts themselves, so
+     * that it stays right when the calls of a parallel sort are stolen by other threads.
+     *
+     * @param depth the depth of the call, the outermost call being at depth 1.
+     */
+    static void depth(int depth) {
+        if (ENABLED) {
+            MAX_DEPTH.accumulate(depth);
+        }
+    }
+
+    /**
+     * Sets every counter back to zero, before counting a sort.
+     */
+    public static void reset() {
+        COMPARISONS.reset();
+        MOVES.reset();
+        AUXILIARY_BYTES.reset();
+        MERGES.reset();
+        MAX_DEPTH.reset();
+    }
+
+    /**
+     * Gets the operations counted since the last {@link #reset()}.
+     *
+     * @return the {@link OperationCounts}.
+     */
+    public static OperationCounts snapshot() {
+        return new OperationCounts(COMPARISONS.sum(), MOVES.sum(), MAX_DEPTH.get(), AUXILIARY_BYTES.sum(), MERGES.sum());
+    }
+}
@@ -0,0 +1,15 @@
+package sorting.types;
+
+/**
+ * Implemented by the sorting techniques that choose between several strategies depending on their input, so that
+ * the simulation can report and chart the strategy taken.
+ */
+public interface StrategyReporting {
+
+    /**
+     * Gets the strategy chosen by the last call to {@link Sort#sort(int[])}.
+     *
+     * @return the name of the strategy, or {@code null} before the first call.
+     */
+    String getLastStrategy();
+}
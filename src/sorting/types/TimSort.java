@@ -0,0 +1,549 @@
+package sorting.types;
+
+/**
+ * Implementation of a run-adaptive merge sort in the style of TimSort.
+ *
+ * The input is scanned for natural runs: ascending ones are kept, strictly descending ones are reversed in place
+ * and runs shorter than a minimum length are extended by binary insertion. The runs are pushed on a stack and
+ * merged while keeping their lengths balanced. When one run keeps winning during a merge, the merge switches to
+ * galloping, i.e. exponential search for the position of the next element of the other run, and copies whole
+ * blocks at once. An already sorted input is therefore sorted with n - 1 comparisons, and an input made of a few
+ * sorted batches in O(n) plus the cost of a few merges.
+ */
+public class TimSort implements Sort {
+
+    /**
+     * Inputs shorter than this are sorted by binary insertion only; longer ones have runs of at least half this.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * The number of consecutive wins of a run after which a merge starts galloping.
+     */
+    private static final int MIN_GALLOP = 7;
+
+    /**
+     * The largest number of runs on the stack; the balance of their lengths makes more impossible for an int array.
+     */
+    private static final int MAX_RUNS = 49;
+
+    @Override
+    public int[] sort(int[] inputArray) {
+        // null and empty validation
+        if (inputArray == null || inputArray.length == 0 || inputArray.length == 1) {
+            return inputArray;
+        }
+
+        timSort(inputArray, 0, inputArray.length);
+
+        return inputArray;
+    }
+
+    /**
+     * Sorts the range {@code [low, high)} of the given array.
+     *
+     * @param arrayToSort the array to sort.
+     * @param low the index of the first element to sort, inclusive.
+     * @param high the index of the last element to sort, exclusive.
+     */
+    public static void timSort(int[] arrayToSort, int low, int high) {
+        int remaining = high - low;
+        if (remaining < 2) {
+            return;
+        }
+        if (remaining < MIN_MERGE) {
+            int runLength = countRunAndMakeAscending(arrayToSort, low, high);
+            binaryInsertionSort(arrayToSort, low, high, low + runLength);
+            return;
+        }
+
+        RunMerger runMerger = new RunMerger(arrayToSort, remaining);
+        int minRun = minRunLength(remaining);
+        do {
+            int runLength = countRunAndMakeAscending(arrayToSort, low, high);
+
+            // Extend a short run to the minimum length
+            if (runLength < minRun) {
+                int forcedLength = Math.min(remaining, minRun);
+                binaryInsertionSort(arrayToSort, low, low + forcedLength, low + runLength);
+                runLength = forcedLength;
+            }
+
+            runMerger.pushRun(low, runLength);
+            runMerger.mergeCollapse();
+            low += runLength;
+            remaining -= runLength;
+        } while (remaining != 0);
+        runMerger.mergeForceCollapse();
+    }
+
+    /**
+     * Finds the length of the run starting at {@code low}, reversing it if it is strictly descending. Runs that
+     * are only descending may contain equal elements, which the reversal would reorder.
+     */
+    private static int countRunAndMakeAscending(int[] arrayToSort, int low, int high) {
+        int runHigh = low + 1;
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (SortCounters.compare(arrayToSort[runHigh++] < arrayToSort[low])) {
+            while (runHigh < high && SortCounters.compare(arrayToSort[runHigh] < arrayToSort[runHigh - 1])) {
+                runHigh++;
+            }
+            reverse(arrayToSort, low, runHigh);
+        } else {
+            while (runHigh < high && SortCounters.compare(arrayToSort[runHigh] >= arrayToSort[runHigh - 1])) {
+                runHigh++;
+            }
+        }
+        return runHigh - low;
+    }
+
+    private static void reverse(int[] arrayToSort, int low, int high) {
+        SortCounters.moves((high - low) / 2 * 2);
+        high--;
+        while (low < high) {
+            int temp = arrayToSort[low];
+            arrayToSort[low++] = arrayToSort[high];
+            arrayToSort[high--] = temp;
+        }
+    }
+
+    /**
+     * Sorts {@code [low, high)} whose prefix {@code [low, start)} is already sorted, finding the position of
+     * every further element by binary search.
+     */
+    private static void binaryInsertionSort(int[] arrayToSort, int low, int high, int start) {
+        if (start == low) {
+            start++;
+        }
+        for (; start < high; start++) {
+            int pivot = arrayToSort[start];
+            int left = low;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (SortCounters.compare(pivot < arrayToSort[middle])) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            System.arraycopy(arrayToSort, left, arrayToSort, left + 1, start - left);
+            arrayToSort[left] = pivot;
+            SortCounters.moves(start - left + 1);
+        }
+    }
+
+    /**
+     * Finds the minimum run length, so that the number of runs is a power of two or slightly less, which keeps the
+     * merges balanced.
+     */
+    private static int minRunLength(int size) {
+        int lowBits = 0;
+        while (size >= MIN_MERGE) {
+            lowBits |= size & 1;
+            size >>= 1;
+        }
+        return size + lowBits;
+    }
+
+    /**
+     * Finds the position in the sorted range {@code [base, base + length)} to insert the key before any equal
+     * element, searching exponentially outwards from {@code base + hint}.
+     *
+     * @return the offset {@code k} such that {@code array[base + k - 1] < key <= array[base + k]}.
+     */
+    private static int gallopLeft(int key, int[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (SortCounters.compare(key > array[base + hint])) {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && SortCounters.compare(key > array[base + hint + offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        } else {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && SortCounters.compare(key <= array[base + hint - offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        }
+
+        // The key lies in (lastOffset, offset], binary search the exact position
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (SortCounters.compare(key > array[base + middle])) {
+                lastOffset = middle + 1;
+            } else {
+                offset = middle;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Like {@link #gallopLeft(int, int[], int, int, int)}, but finds the position after any equal element.
+     *
+     * @return the offset {@code k} such that {@code array[base + k - 1] <= key < array[base + k]}.
+     */
+    private static int gallopRight(int key, int[] array, int base, int length, int hint) {
+        int lastOffset = 0;
+        int offset = 1;
+        if (SortCounters.compare(key < array[base + hint])) {
+            int maxOffset = hint + 1;
+            while (offset < maxOffset && SortCounters.compare(key < array[base + hint - offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            int temp = lastOffset;
+            lastOffset = hint - offset;
+            offset = hint - temp;
+        } else {
+            int maxOffset = length - hint;
+            while (offset < maxOffset && SortCounters.compare(key >= array[base + hint + offset])) {
+                lastOffset = offset;
+                offset = (offset << 1) + 1;
+                if (offset <= 0) {
+                    offset = maxOffset;
+                }
+            }
+            offset = Math.min(offset, maxOffset);
+            lastOffset += hint;
+            offset += hint;
+        }
+
+        // The key lies in (lastOffset, offset], binary search the exact position
+        lastOffset++;
+        while (lastOffset < offset) {
+            int middle = lastOffset + ((offset - lastOffset) >>> 1);
+            if (SortCounters.compare(key < array[base + middle])) {
+                offset = middle;
+            } else {
+                lastOffset = middle + 1;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * The stack of pending runs of one sort and the buffer used to merge them.
+     */
+    private static final class RunMerger {
+
+        private final int[] arrayToSort;
+        private final int[] runBase = new int[MAX_RUNS];
+        private final int[] runLength = new int[MAX_RUNS];
+        private int stackSize;
+        private int minGallop = MIN_GALLOP;
+        private int[] buffer;
+
+        RunMerger(int[] arrayToSort, int size) {
+            this.arrayToSort = arrayToSort;
+            this.buffer = new int[size < 512 ? size >>> 1 : 256];
+            SortCounters.allocate((long) Integer.BYTES * buffer.length);
+        }
+
+        void pushRun(int base, int length) {
+            runBase[stackSize] = base;
+            runLength[stackSize] = length;
+            stackSize++;
+        }
+
+        /**
+         * Merges runs until the lengths on the stack decrease faster than the Fibonacci numbers, i.e. every run
+         * is longer than the two above it together and than the one above it.
+         */
+        void mergeCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                        || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                    if (runLength[n - 1] < runLength[n + 1]) {
+                        n--;
+                    }
+                } else if (runLength[n] > runLength[n + 1]) {
+                    break;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges all remaining runs into one.
+         */
+        void mergeForceCollapse() {
+            while (stackSize > 1) {
+                int n = stackSize - 2;
+                if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+                mergeAt(n);
+            }
+        }
+
+        /**
+         * Merges the runs at stack positions {@code i} and {@code i + 1}.
+         */
+        private void mergeAt(int i) {
+            int base1 = runBase[i];
+            int length1 = runLength[i];
+            int base2 = runBase[i + 1];
+            int length2 = runLength[i + 1];
+
+            runLength[i] = length1 + length2;
+            if (i == stackSize - 3) {
+                runBase[i + 1] = runBase[i + 2];
+                runLength[i + 1] = runLength[i + 2];
+            }
+            stackSize--;
+            SortCounters.merge();
+
+            // Elements of the first run smaller than the whole second run are already in place
+            int inPlace = gallopRight(arrayToSort[base2], arrayToSort, base1, length1, 0);
+            base1 += inPlace;
+            length1 -= inPlace;
+            if (length1 == 0) {
+                return;
+            }
+
+            // So are elements of the second run larger than the whole first run
+            length2 = gallopLeft(arrayToSort[base1 + length1 - 1], arrayToSort, base2, length2, length2 - 1);
+            if (length2 == 0) {
+                return;
+            }
+
+            if (length1 <= length2) {
+                mergeLow(base1, length1, base2, length2);
+            } else {
+                mergeHigh(base1, length1, base2, length2);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from the front, buffering the first and shorter one. The first element of the
+         * second run belongs first, and the last element of the first run belongs last.
+         */
+        private void mergeLow(int base1, int length1, int base2, int length2) {
+            int[] array = arrayToSort;
+            int[] temp = ensureCapacity(length1);
+            // the shorter run is buffered and every element of both runs is written back once
+            SortCounters.moves(length1 + length1 + length2);
+            System.arraycopy(array, base1, temp, 0, length1);
+            int cursor1 = 0;
+            int cursor2 = base2;
+            int destination = base1;
+
+            array[destination++] = array[cursor2++];
+            if (--length2 == 0) {
+                System.arraycopy(temp, cursor1, array, destination, length1);
+                return;
+            }
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = temp[cursor1];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // Merge one element at a time until one run wins consistently
+                do {
+                    if (SortCounters.compare(array[cursor2] < temp[cursor1])) {
+                        array[destination++] = array[cursor2++];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination++] = temp[cursor1++];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // Gallop until neither run wins by long stretches any more
+                do {
+                    count1 = gallopRight(array[cursor2], temp, cursor1, length1, 0);
+                    if (count1 != 0) {
+                        System.arraycopy(temp, cursor1, array, destination, count1);
+                        destination += count1;
+                        cursor1 += count1;
+                        length1 -= count1;
+                        if (length1 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = array[cursor2++];
+                    if (--length2 == 0) {
+                        break outer;
+                    }
+
+                    count2 = gallopLeft(temp[cursor1], array, cursor2, length2, 0);
+                    if (count2 != 0) {
+                        System.arraycopy(array, cursor2, array, destination, count2);
+                        destination += count2;
+                        cursor2 += count2;
+                        length2 -= count2;
+                        if (length2 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination++] = temp[cursor1++];
+                    if (--length1 == 1) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                // Galloping stopped paying off, make it harder to enter again
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+
+            if (length1 == 1) {
+                System.arraycopy(array, cursor2, array, destination, length2);
+                array[destination + length2] = temp[cursor1];
+            } else {
+                System.arraycopy(temp, cursor1, array, destination, length1);
+            }
+        }
+
+        /**
+         * Merges two adjacent runs from the back, buffering the second and shorter one. The first element of the
+         * second run belongs first, and the last element of the first run belongs last.
+         */
+        private void mergeHigh(int base1, int length1, int base2, int length2) {
+            int[] array = arrayToSort;
+            int[] temp = ensureCapacity(length2);
+            SortCounters.moves(length2 + length1 + length2);
+            System.arraycopy(array, base2, temp, 0, length2);
+            int cursor1 = base1 + length1 - 1;
+            int cursor2 = length2 - 1;
+            int destination = base2 + length2 - 1;
+
+            array[destination--] = array[cursor1--];
+            if (--length1 == 0) {
+                System.arraycopy(temp, 0, array, destination - (length2 - 1), length2);
+                return;
+            }
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = temp[cursor2];
+                return;
+            }
+
+            int minGallop = this.minGallop;
+            outer:
+            while (true) {
+                int count1 = 0;
+                int count2 = 0;
+
+                // Merge one element at a time until one run wins consistently
+                do {
+                    if (SortCounters.compare(temp[cursor2] < array[cursor1])) {
+                        array[destination--] = array[cursor1--];
+                        count1++;
+                        count2 = 0;
+                        if (--length1 == 0) {
+                            break outer;
+                        }
+                    } else {
+                        array[destination--] = temp[cursor2--];
+                        count2++;
+                        count1 = 0;
+                        if (--length2 == 1) {
+                            break outer;
+                        }
+                    }
+                } while ((count1 | count2) < minGallop);
+
+                // Gallop until neither run wins by long stretches any more
+                do {
+                    count1 = length1 - gallopRight(temp[cursor2], array, base1, length1, length1 - 1);
+                    if (count1 != 0) {
+                        destination -= count1;
+                        cursor1 -= count1;
+                        length1 -= count1;
+                        System.arraycopy(array, cursor1 + 1, array, destination + 1, count1);
+                        if (length1 == 0) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = temp[cursor2--];
+                    if (--length2 == 1) {
+                        break outer;
+                    }
+
+                    count2 = length2 - gallopLeft(array[cursor1], temp, 0, length2, length2 - 1);
+                    if (count2 != 0) {
+                        destination -= count2;
+                        cursor2 -= count2;
+                        length2 -= count2;
+                        System.arraycopy(temp, cursor2 + 1, array, destination + 1, count2);
+                        if (length2 <= 1) {
+                            break outer;
+                        }
+                    }
+                    array[destination--] = array[cursor1--];
+                    if (--length1 == 0) {
+                        break outer;
+                    }
+                    minGallop--;
+                } while (count1 >= MIN_GALLOP | count2 >= MIN_GALLOP);
+
+                // Galloping stopped paying off, make it harder to enter again
+                minGallop = Math.max(minGallop, 0) + 2;
+            }
+            this.minGallop = Math.max(minGallop, 1);
+
+            if (length2 == 1) {
+                destination -= length1;
+                cursor1 -= length1;
+                System.arraycopy(array, cursor1 + 1, array, destination + 1, length1);
+                array[destination] = temp[cursor2];
+            } else {
+                System.arraycopy(temp, 0, array, destination - (length2 - 1), length2);
+            }
+        }
+
+        private int[] ensureCapacity(int minCapacity) {
+            if (buffer.length < minCapacity) {
+                int newCapacity = Math.min(Math.max(buffer.length, 1) * 2, arrayToSort.length >>> 1);
+                buffer = new int[Math.max(minCapacity, newCapacity)];
+                SortCounters.allocate((long) Integer.BYTES * buffer.length);
+            }
+            return buffer;
+        }
+    }
+}
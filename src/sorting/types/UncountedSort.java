@@ -0,0 +1,8 @@
+package sorting.types;
+
+/**
+ * Implemented by the sorting techniques whose operations {@link SortCounters} does not count, because they happen
+ * outside this package, so that the simulation leaves them out of the operation counts instead of charting zeros.
+ */
+public interface UncountedSort {
+}